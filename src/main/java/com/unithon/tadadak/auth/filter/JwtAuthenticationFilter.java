@@ -1,5 +1,6 @@
 package com.unithon.tadadak.auth.filter;
 
+import com.unithon.tadadak.auth.util.JwtPrincipal;
 import com.unithon.tadadak.auth.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -17,6 +18,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -48,10 +50,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 
         try {
-            // 토큰 유효성 검증
-            if (jwtUtil.validateToken(token)) {
-                String username = jwtUtil.getUsernameFromToken(token);
-                Long userId = jwtUtil.getUserIdFromToken(token);
+            // 토큰 유효성 검증 + 인증 정보 추출 (파싱 1회, 캐시 적중 시 0회)
+            Optional<JwtPrincipal> principal = jwtUtil.parse(token);
+            if (principal.isPresent()) {
+                String username = principal.get().username();
+                Long userId = principal.get().userId();
 
                 // UserDetails 생성 (간단한 구현)
                 UserDetails userDetails = User.builder()
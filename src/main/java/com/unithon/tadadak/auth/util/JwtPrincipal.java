@@ -0,0 +1,8 @@
+package com.unithon.tadadak.auth.util;
+
+/**
+ * 📝 서명 검증이 끝난 JWT의 인증 정보
+ * @param expiresAt 토큰 만료 시각 (epoch millis)
+ */
+public record JwtPrincipal(String username, Long userId, long expiresAt) {
+}
@@ -8,6 +8,10 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Component
@@ -15,11 +19,24 @@ public class JwtUtil {
 
     private final SecretKey secretKey;
     private final long jwtExpiration;
+    // 📝 파서는 불변 객체라 한 번 만들어 재사용
+    private final JwtParser parser;
+
+    // 📝 검증된 토큰 → 인증 정보 캐시 (잠금 없는 조회, 항목은 토큰 exp에 만료)
+    // - 최대 크기를 넘으면 한 스레드만 정리: 만료 항목부터 지우고, 그래도 크면 임의 항목을 지워 90%까지 줄임
+    private final int cacheMaxSize;
+    private final ConcurrentHashMap<String, JwtPrincipal> verified = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
 
     public JwtUtil(@Value("${jwt.secret}") String secret, 
-                   @Value("${jwt.expiration}") long jwtExpiration) {
+                   @Value("${jwt.expiration}") long jwtExpiration,
+                   @Value("${jwt.cache.max-size:10000}") int cacheMaxSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.jwtExpiration = jwtExpiration;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.cacheMaxSize = cacheMaxSize;
     }
 
     /**
@@ -39,6 +56,51 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * 📝 토큰을 한 번만 파싱/검증해서 인증 정보 반환 (유효하지 않으면 empty)
+     * - 같은 토큰의 재요청은 캐시에서 바로 반환 (서명 재검증 없음)
+     */
+    public Optional<JwtPrincipal> parse(String token) {
+        if (token == null || token.isBlank()) return Optional.empty();
+
+        long now = System.currentTimeMillis();
+        JwtPrincipal cached = verified.get(token);
+        if (cached != null) {
+            if (cached.expiresAt() > now) return Optional.of(cached);
+            verified.remove(token, cached);
+        }
+
+        Claims claims = parseOrNull(token);
+        if (claims == null) return Optional.empty();
+
+        Date expiration = claims.getExpiration();
+        JwtPrincipal principal = new JwtPrincipal(
+                claims.getSubject(),
+                claims.get("userId", Long.class),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+        verified.put(token, principal);
+        if (verified.size() > cacheMaxSize) evict(now);
+        return Optional.of(principal);
+    }
+
+    /**
+     * 캐시 크기 제한 (다른 스레드가 정리 중이면 건너뜀)
+     */
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) return;
+        try {
+            verified.values().removeIf(principal -> principal.expiresAt() <= now);
+            int target = cacheMaxSize - cacheMaxSize / 10;
+            Iterator<String> tokens = verified.keySet().iterator();
+            while (verified.size() > target && tokens.hasNext()) {
+                tokens.next();
+                tokens.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
     /**
      * 토큰에서 username 추출
      */
@@ -57,9 +119,15 @@ public class JwtUtil {
      * 토큰 유효성 검증
      */
     public boolean validateToken(String token) {
+        return parse(token).isPresent();
+    }
+
+    /**
+     * 토큰 파싱 (실패 시 사유를 로그로 남기고 null)
+     */
+    private Claims parseOrNull(String token) {
         try {
-            getClaims(token);
-            return true;
+            return getClaims(token);
         } catch (SecurityException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -71,18 +139,14 @@ public class JwtUtil {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return null;
     }
 
     /**
      * 토큰에서 Claims 추출
      */
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     /**
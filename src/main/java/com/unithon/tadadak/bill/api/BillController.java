@@ -3,6 +3,7 @@ package com.unithon.tadadak.bill.api;
 import com.unithon.tadadak.bill.domain.Bill;
 import com.unithon.tadadak.bill.domain.BillStatus;
 import com.unithon.tadadak.bill.dto.BillResponse;
+import com.unithon.tadadak.bill.dto.BillSliceResponse;
 import com.unithon.tadadak.bill.dto.CreateBillRequest;
 import com.unithon.tadadak.bill.dto.UpdateBillRequest;
 import com.unithon.tadadak.bill.dto.UpdateBillStatusRequest;
@@ -11,9 +12,12 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 @RestController
 @RequestMapping("/api/bills")
 @RequiredArgsConstructor
@@ -42,6 +46,21 @@ public class BillController {
         return billService.list(groupId, userId, status, page, size);
     }
 
+    /**
+     * 📝 커서 기반 목록 (최신순). 첫 페이지는 커서 없이, 이후에는 응답의 nextCreatedAt/nextBillId 전달
+     */
+    @GetMapping("/cursor")
+    public BillSliceResponse listByCursor(
+            @RequestParam(required = false) Long groupId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) BillStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorBillId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return billService.listByCursor(groupId, userId, status, cursorCreatedAt, cursorBillId, size);
+    }
+
     @PatchMapping("/{billId}")
     public BillResponse update(@PathVariable Long billId,
                                @RequestBody @Valid UpdateBillRequest req) {
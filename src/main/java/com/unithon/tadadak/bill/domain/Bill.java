@@ -10,7 +10,14 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 
-@Entity @Table(name = "bill")
+@Entity
+@Table(name = "bill", indexes = {
+        // 커서 목록 조회: 그룹/사용자별 최신순 (created_at, bill_id) 키셋
+        // 조회 컬럼(status, amount 등)까지 포함한 커버링 인덱스 → 테이블 행 접근 없음
+        @Index(name = "idx_bill_group_created_cov", columnList = "group_id, created_at, bill_id, user_id, status, amount"),
+        @Index(name = "idx_bill_user_created_cov", columnList = "user_id, created_at, bill_id, group_id, status, amount"),
+        @Index(name = "idx_bill_created_cov", columnList = "created_at, bill_id, group_id, user_id, status, amount")
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 @EntityListeners(AuditingEntityListener.class)
 public class Bill {
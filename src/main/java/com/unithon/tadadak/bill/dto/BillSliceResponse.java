@@ -0,0 +1,17 @@
+package com.unithon.tadadak.bill.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 커서 기반 정산 목록 응답 (다음 페이지는 nextCreatedAt + nextBillId로 요청)
+ */
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class BillSliceResponse {
+    private List<BillResponse> bills;
+    private boolean hasNext;
+    private LocalDateTime nextCreatedAt;
+    private Long nextBillId;
+}
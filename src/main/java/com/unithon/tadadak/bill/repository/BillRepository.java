@@ -5,4 +5,4 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 public interface BillRepository
-        extends JpaRepository<Bill, Long>, JpaSpecificationExecutor<Bill> { }
+        extends JpaRepository<Bill, Long>, JpaSpecificationExecutor<Bill>, BillSliceRepository { }
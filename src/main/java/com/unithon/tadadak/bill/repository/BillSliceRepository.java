@@ -0,0 +1,18 @@
+package com.unithon.tadadak.bill.repository;
+
+import com.unithon.tadadak.bill.domain.Bill;
+import com.unithon.tadadak.bill.dto.BillResponse;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface BillSliceRepository {
+
+    /**
+     * 📝 커서(키셋) 기반 정산 목록 조회 (createdAt DESC, billId DESC)
+     * - 엔티티/연관 프록시 없이 DTO로 바로 조회, COUNT 쿼리 없음
+     * - amount는 총액 그대로 (1/N은 서비스에서 적용)
+     * - 주어진 필터만 WHERE에 들어가므로 필터 조합마다 (:x IS NULL OR ...) 없는 쿼리가 되어 커버링 인덱스를 탐
+     */
+    List<BillResponse> findSlice(Specification<Bill> spec, int limit);
+}
@@ -0,0 +1,35 @@
+package com.unithon.tadadak.bill.repository;
+
+import com.unithon.tadadak.bill.domain.Bill;
+import com.unithon.tadadak.bill.dto.BillResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+class BillSliceRepositoryImpl implements BillSliceRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<BillResponse> findSlice(Specification<Bill> spec, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<BillResponse> query = cb.createQuery(BillResponse.class);
+        Root<Bill> b = query.from(Bill.class);
+        query.select(cb.construct(BillResponse.class,
+                b.get("billId"), b.get("group").get("groupId"), b.get("user").get("userId"),
+                b.get("amount"), b.get("status"), b.get("createdAt")));
+
+        Predicate where = spec.toPredicate(b, query, cb);
+        if (where != null) query.where(where);
+        query.orderBy(cb.desc(b.get("createdAt")), cb.desc(b.get("billId")));
+
+        return em.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
@@ -4,6 +4,8 @@ import com.unithon.tadadak.bill.domain.Bill;
 import com.unithon.tadadak.bill.domain.BillStatus;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
+
 public class BillSpecifications {
     public static Specification<Bill> hasGroupId(Long groupId) {
         return (root, q, cb) -> groupId == null ? null :
@@ -17,4 +19,11 @@ public class BillSpecifications {
         return (root, q, cb) -> status == null ? null :
                 cb.equal(root.get("status"), status);
     }
+    // 키셋 커서: (createdAt, billId)가 커서보다 앞선(오래된) 행
+    public static Specification<Bill> before(LocalDateTime createdAt, Long billId) {
+        return (root, q, cb) -> cb.or(
+                cb.lessThan(root.<LocalDateTime>get("createdAt"), createdAt),
+                cb.and(cb.equal(root.get("createdAt"), createdAt),
+                        cb.lessThan(root.<Long>get("billId"), billId)));
+    }
 }
@@ -3,6 +3,7 @@ package com.unithon.tadadak.bill.service;
 import com.unithon.tadadak.bill.domain.Bill;
 import com.unithon.tadadak.bill.domain.BillStatus;
 import com.unithon.tadadak.bill.dto.BillResponse;
+import com.unithon.tadadak.bill.dto.BillSliceResponse;
 import com.unithon.tadadak.bill.dto.CreateBillRequest;
 import com.unithon.tadadak.bill.dto.UpdateBillRequest;
 import com.unithon.tadadak.bill.dto.UpdateBillStatusRequest;
@@ -10,6 +11,7 @@ import com.unithon.tadadak.bill.repository.BillRepository;
 import com.unithon.tadadak.bill.repository.BillSpecifications;
 import com.unithon.tadadak.global.exception.CustomException;
 import com.unithon.tadadak.global.exception.ErrorCode;
+import com.unithon.tadadak.groupmember.cache.GroupMemberCountCache;
 import com.unithon.tadadak.groupmember.repository.GroupMemberRepository;
 import com.unithon.tadadak.groups.domain.Groups;
 import com.unithon.tadadak.groups.repository.GroupsRepository;
@@ -24,8 +26,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -36,6 +42,7 @@ public class BillService {
     private final GroupsRepository groupsRepository;
     private final UserRepository userRepository;
     private final GroupMemberRepository groupMemberRepository;
+    private final GroupMemberCountCache memberCountCache;
 
     public BillResponse create(CreateBillRequest req) {
         Groups group = groupsRepository.findById(req.getGroupId())
@@ -102,23 +109,84 @@ public class BillService {
         if (status != null) specs.add(BillSpecifications.hasStatus(status));
 
         Specification<Bill> spec = Specification.allOf(specs);
-        return billRepository.findAll(spec, pageable).map(this::toResponse);
+        Page<Bill> bills = billRepository.findAll(spec, pageable);
+
+        // 페이지 내 그룹들의 멤버 수는 한 번에 조회 (bill마다 COUNT 하지 않음)
+        Set<Long> groupIds = bills.stream()
+                .map(b -> b.getGroup().getGroupId())
+                .collect(Collectors.toSet());
+        Map<Long, Long> memberCounts = groupIds.isEmpty() ? Map.of() : memberCountCache.getCounts(groupIds);
+
+        return bills.map(b -> toResponse(b, memberCounts.getOrDefault(b.getGroup().getGroupId(), 0L)));
+    }
+
+    /**
+     * 📝 커서(키셋) 기반 목록 조회: 페이지 깊이와 무관하게 일정한 비용
+     * - size + 1개를 조회해서 다음 페이지 존재 여부 판단 (COUNT 없음)
+     */
+    @Transactional(readOnly = true)
+    public BillSliceResponse listByCursor(Long groupId, Long userId, BillStatus status,
+                                          LocalDateTime cursorCreatedAt, Long cursorBillId, int size) {
+        if (size <= 0) throw new CustomException(ErrorCode.INVALID_REQUEST);
+        if (cursorCreatedAt != null && cursorBillId == null) throw new CustomException(ErrorCode.INVALID_REQUEST);
+
+        // 주어진 필터만 조건으로 (필터 조합마다 복합 인덱스를 타는 쿼리)
+        List<Specification<Bill>> specs = new ArrayList<>();
+        if (groupId != null) specs.add(BillSpecifications.hasGroupId(groupId));
+        if (userId != null) specs.add(BillSpecifications.hasUserId(userId));
+        if (status != null) specs.add(BillSpecifications.hasStatus(status));
+        if (cursorCreatedAt != null) specs.add(BillSpecifications.before(cursorCreatedAt, cursorBillId));
+
+        List<BillResponse> rows = billRepository.findSlice(Specification.allOf(specs), size + 1);
+        boolean hasNext = rows.size() > size;
+        List<BillResponse> page = hasNext ? rows.subList(0, size) : rows;
+
+        // 페이지 내 그룹들의 멤버 수는 한 번에 조회, 1/N은 toResponse에서
+        Set<Long> groupIds = page.stream().map(BillResponse::getGroupId).collect(Collectors.toSet());
+        Map<Long, Long> memberCounts = groupIds.isEmpty() ? Map.of() : memberCountCache.getCounts(groupIds);
+        List<BillResponse> bills = page.stream()
+                .map(row -> toResponse(row, memberCounts.getOrDefault(row.getGroupId(), 0L)))
+                .toList();
+
+        BillResponse last = bills.isEmpty() ? null : bills.get(bills.size() - 1);
+        return BillSliceResponse.builder()
+                .bills(bills)
+                .hasNext(hasNext)
+                .nextCreatedAt(hasNext ? last.getCreatedAt() : null)
+                .nextBillId(hasNext ? last.getBillId() : null)
+                .build();
     }
 
     private BillResponse toResponse(Bill b) {
-        // amount는 응답 시 그룹원 수로 1/N한 값으로 반환
-        long memberCount = groupMemberRepository.countByGroupId(b.getGroup().getGroupId());
-        if (memberCount <= 0) throw new CustomException(ErrorCode.GROUP_MEMBER_COUNT_INVALID);
-        int share = b.getAmount() / (int) memberCount; // 정수 나눗셈(내림). 잔여분 처리는 추후 정책 반영
+        return toResponse(b, memberCountCache.getCount(b.getGroup().getGroupId()));
+    }
 
-        return BillResponse.builder()
+    private BillResponse toResponse(Bill b, long memberCount) {
+        return toResponse(BillResponse.builder()
                 .billId(b.getBillId())
                 .groupId(b.getGroup().getGroupId())
                 .userId(b.getUser().getUserId())
-                .amount(share)
+                .amount(b.getAmount())
                 .status(b.getStatus())
                 .createdAt(b.getCreatedAt())
+                .build(), memberCount);
+    }
+
+    /**
+     * 총액이 담긴 행 → 응답 (엔티티 조회/커서 조회 공통)
+     */
+    private BillResponse toResponse(BillResponse total, long memberCount) {
+        // amount는 응답 시 그룹원 수로 1/N한 값으로 반환
+        if (memberCount <= 0) throw new CustomException(ErrorCode.GROUP_MEMBER_COUNT_INVALID);
+        int share = total.getAmount() / (int) memberCount; // 정수 나눗셈(내림). 잔여분 처리는 추후 정책 반영
+
+        return BillResponse.builder()
+                .billId(total.getBillId())
+                .groupId(total.getGroupId())
+                .userId(total.getUserId())
+                .amount(share)
+                .status(total.getStatus())
+                .createdAt(total.getCreatedAt())
                 .build();
     }
 }
-
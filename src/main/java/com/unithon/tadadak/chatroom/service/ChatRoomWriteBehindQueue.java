@@ -0,0 +1,163 @@
+package com.unithon.tadadak.chatroom.service;
+
+import com.unithon.tadadak.chatroom.store.ChatRoomMutation;
+import com.unithon.tadadak.chatroom.store.ChatRoomStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📝 채팅방 변경 write-behind 큐
+ * - 요청 스레드는 큐에 넣기만 하고 바로 반환 (Firestore 응답을 기다리지 않음)
+ * - 전용 스레드가 최대 batchSize개씩 꺼내 저장소에 반영, 실패한 변경만 지수 백오프로 재시도
+ * - 큐가 가득 차면 해당 변경은 버리고 메트릭/로그로 남김
+ */
+@Slf4j
+@Component
+public class ChatRoomWriteBehindQueue {
+
+    private final Optional<ChatRoomStore> store;
+    private final BlockingQueue<ChatRoomMutation> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final Thread worker;
+
+    private final Counter applied;
+    private final Counter failed;
+    private final Counter dropped;
+
+    private volatile boolean running = true;
+
+    public ChatRoomWriteBehindQueue(Optional<ChatRoomStore> store,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${chatroom.write-behind.capacity:10000}") int capacity,
+                                    @Value("${chatroom.write-behind.batch-size:100}") int batchSize,
+                                    @Value("${chatroom.write-behind.max-attempts:5}") int maxAttempts,
+                                    @Value("${chatroom.write-behind.initial-backoff-ms:200}") long initialBackoffMillis) {
+        this.store = store;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.worker = new Thread(this::run, "chatroom-write-behind");
+        this.worker.setDaemon(true);
+
+        this.applied = Counter.builder("chatroom.mutations").tag("result", "applied").register(meterRegistry);
+        this.failed = Counter.builder("chatroom.mutations").tag("result", "failed").register(meterRegistry);
+        this.dropped = Counter.builder("chatroom.mutations").tag("result", "dropped").register(meterRegistry);
+        Gauge.builder("chatroom.write-behind.queued", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (store.isEmpty()) {
+            log.warn("Firebase가 비활성화되어 있습니다. 채팅방 변경은 반영되지 않습니다.");
+            return;
+        }
+        worker.start();
+    }
+
+    /**
+     * 변경 요청 등록 (블로킹 없음)
+     * @return 큐에 들어갔으면 true
+     */
+    public boolean submit(ChatRoomMutation mutation) {
+        if (store.isEmpty()) return false;
+        if (!queue.offer(mutation)) {
+            dropped.increment();
+            log.error("채팅방 변경 큐가 가득 찼습니다. 변경을 버립니다: {}", mutation);
+            return false;
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+        List<ChatRoomMutation> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            ChatRoomMutation first;
+            try {
+                first = running ? queue.take() : queue.poll();
+            } catch (InterruptedException e) {
+                // 종료 중: 남은 항목은 한 번씩만 시도하고 종료
+                running = false;
+                continue;
+            }
+            if (first == null) break;
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            applyWithRetry(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * 묶음 반영 후 실패한 변경만 지수 백오프로 재시도
+     * - 종료 중에는 대기 없이 한 번만 시도 (반영 중 인터럽트되면 버리지 않고 같은 목록을 한 번 더 시도)
+     */
+    private void applyWithRetry(List<ChatRoomMutation> batch) {
+        List<ChatRoomMutation> pending = batch;
+        long backoff = initialBackoffMillis;
+        boolean interrupted = false;
+        for (int attempt = 1; ; attempt++) {
+            boolean lastAttempt = !running || attempt >= maxAttempts;
+            List<ChatRoomMutation> failedNow;
+            try {
+                failedNow = applyOnce(pending);
+            } catch (InterruptedException e) {
+                // 어디까지 반영됐는지 모름 → 변경이 멱등이므로 같은 목록을 한 번 더 시도 (시도 횟수에서 제외)
+                running = false;
+                if (!interrupted) {
+                    interrupted = true;
+                    attempt--;
+                    continue;
+                }
+                failedNow = pending;
+            }
+            applied.increment(pending.size() - failedNow.size());
+            if (failedNow.isEmpty()) return;
+            if (lastAttempt) {
+                failed.increment(failedNow.size());
+                log.error("채팅방 변경 {}건 반영 실패 ({}회 시도): {}", failedNow.size(), attempt, failedNow);
+                return;
+            }
+            log.warn("채팅방 변경 {}건 반영 실패, {}ms 후 재시도 ({}/{})",
+                    failedNow.size(), backoff, attempt, maxAttempts);
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                running = false;
+            }
+            backoff *= 2;
+            pending = failedNow;
+        }
+    }
+
+    private List<ChatRoomMutation> applyOnce(List<ChatRoomMutation> mutations) throws InterruptedException {
+        try {
+            return store.get().apply(mutations);
+        } catch (RuntimeException e) {
+            log.warn("채팅방 변경 {}건 반영 중 오류: {}", mutations.size(), e.getMessage(), e);
+            return mutations;
+        }
+    }
+}
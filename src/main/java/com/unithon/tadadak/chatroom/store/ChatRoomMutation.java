@@ -0,0 +1,38 @@
+package com.unithon.tadadak.chatroom.store;
+
+/**
+ * 📝 채팅방 변경 요청 (write-behind 큐에 쌓였다가 저장소에 일괄 반영)
+ * - 모든 변경은 재시도해도 결과가 같도록(멱등) 저장소에서 처리
+ *   (채팅방 생성은 이미 있으면 건너뜀, 멤버 변경은 현재 상태를 읽고 필요할 때만 반영)
+ * @param actorUserId 강퇴 요청자 (KICK_MEMBER에서만 사용)
+ */
+public record ChatRoomMutation(Type type, String postId, String userId, String actorUserId) {
+
+    public enum Type {
+        CREATE_ROOM,
+        ADD_MEMBER,
+        REMOVE_MEMBER,
+        KICK_MEMBER,
+        CLOSE_ROOM
+    }
+
+    public static ChatRoomMutation createRoom(String postId, String hostUserId) {
+        return new ChatRoomMutation(Type.CREATE_ROOM, postId, hostUserId, null);
+    }
+
+    public static ChatRoomMutation addMember(String postId, String userId) {
+        return new ChatRoomMutation(Type.ADD_MEMBER, postId, userId, null);
+    }
+
+    public static ChatRoomMutation removeMember(String postId, String userId) {
+        return new ChatRoomMutation(Type.REMOVE_MEMBER, postId, userId, null);
+    }
+
+    public static ChatRoomMutation kickMember(String postId, String hostUserId, String targetUserId) {
+        return new ChatRoomMutation(Type.KICK_MEMBER, postId, targetUserId, hostUserId);
+    }
+
+    public static ChatRoomMutation closeRoom(String postId) {
+        return new ChatRoomMutation(Type.CLOSE_ROOM, postId, null, null);
+    }
+}
@@ -0,0 +1,16 @@
+package com.unithon.tadadak.chatroom.store;
+
+import java.util.List;
+
+/**
+ * 📝 채팅방 저장소 (운영: Firestore, 테스트: 인메모리 구현으로 대체 가능)
+ */
+public interface ChatRoomStore {
+
+    /**
+     * 변경 요청을 순서대로 반영하고, 반영하지 못한 변경만 순서대로 반환 (호출 측은 반환된 것만 재시도)
+     * - 한 변경이 실패해도 다른 채팅방 변경은 계속 반영
+     * - 실패한 변경 뒤의 같은 채팅방 변경은 순서 보장을 위해 시도하지 않고 함께 반환
+     */
+    List<ChatRoomMutation> apply(List<ChatRoomMutation> mutations) throws InterruptedException;
+}
@@ -0,0 +1,246 @@
+package com.unithon.tadadak.chatroom.store;
+
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.StatusCode;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldValue;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.FirestoreException;
+import com.google.cloud.firestore.SetOptions;
+import com.google.cloud.firestore.WriteBatch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 📝 Firestore 채팅방 저장소
+ * - rooms/{postId} 문서 + rooms/{postId}/members/{userId} 하위 문서
+ * - 읽지 않고 쓰는 변경(채팅방 생성/닫기)은 연속된 것끼리 WriteBatch 하나로 묶어 커밋
+ * - 배치 커밋이 실패하면 변경 하나씩 다시 커밋해 실패를 해당 변경으로 한정
+ * - 멤버 추가/제거/강퇴는 트랜잭션 1회 (방/멤버 문서를 한 번에 읽고 멤버 문서 + memberCount를 함께 커밋)
+ * - 방이 아직 없는 멤버 추가는 실패로 돌려 큐가 방 생성 이후에 다시 시도하게 함
+ * - 순서 보장을 위해 트랜잭션 변경 앞에서는 쌓인 배치를 먼저 커밋
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "firebase.enabled", havingValue = "true", matchIfMissing = false)
+public class FirestoreChatRoomStore implements ChatRoomStore {
+
+    // Firestore WriteBatch 한 번에 담을 수 있는 최대 쓰기 수
+    private static final int MAX_BATCH_WRITES = 500;
+
+    private final Firestore firestore;
+
+    @Override
+    public List<ChatRoomMutation> apply(List<ChatRoomMutation> mutations) throws InterruptedException {
+        Result result = new Result();
+        List<ChatRoomMutation> blindWrites = new ArrayList<>();
+        int writes = 0;
+        for (ChatRoomMutation mutation : mutations) {
+            if (result.isBlocked(mutation)) {
+                result.fail(mutation);
+                continue;
+            }
+            switch (mutation.type()) {
+                case CREATE_ROOM, CLOSE_ROOM -> {
+                    int mutationWrites = writesOf(mutation);
+                    if (writes + mutationWrites > MAX_BATCH_WRITES) {
+                        commitBlindWrites(blindWrites, result);
+                        writes = 0;
+                    }
+                    blindWrites.add(mutation);
+                    writes += mutationWrites;
+                }
+                case ADD_MEMBER, REMOVE_MEMBER, KICK_MEMBER -> {
+                    commitBlindWrites(blindWrites, result);
+                    writes = 0;
+                    applyInTransaction(mutation, result);
+                }
+            }
+        }
+        commitBlindWrites(blindWrites, result);
+        return result.failed;
+    }
+
+    /**
+     * 모아둔 채팅방 생성/닫기를 배치 하나로 커밋 (실패 시 하나씩 다시 커밋)
+     */
+    private void commitBlindWrites(List<ChatRoomMutation> blindWrites, Result result) throws InterruptedException {
+        if (blindWrites.isEmpty()) return;
+        try {
+            commit(blindWrites);
+        } catch (ExecutionException e) {
+            log.warn("채팅방 배치 커밋 실패, {}건을 하나씩 다시 반영합니다: {}", blindWrites.size(), e.getMessage());
+            for (ChatRoomMutation mutation : blindWrites) {
+                if (result.isBlocked(mutation)) {
+                    result.fail(mutation);
+                    continue;
+                }
+                try {
+                    commit(List.of(mutation));
+                } catch (ExecutionException single) {
+                    if (mutation.type() == ChatRoomMutation.Type.CREATE_ROOM
+                            && hasCode(single, StatusCode.Code.ALREADY_EXISTS)) {
+                        // 재시도로 다시 들어온 생성: 이미 반영됨
+                        log.debug("이미 존재하는 채팅방입니다: {}", mutation.postId());
+                        continue;
+                    }
+                    log.warn("채팅방 변경 반영 실패: {} ({})", mutation, single.getMessage());
+                    result.fail(mutation);
+                }
+            }
+        } finally {
+            blindWrites.clear();
+        }
+    }
+
+    private void commit(List<ChatRoomMutation> blindWrites) throws ExecutionException, InterruptedException {
+        WriteBatch batch = firestore.batch();
+        for (ChatRoomMutation mutation : blindWrites) {
+            if (mutation.type() == ChatRoomMutation.Type.CREATE_ROOM) {
+                createRoom(batch, mutation.postId(), mutation.userId());
+            } else {
+                closeRoom(batch, mutation.postId());
+            }
+        }
+        batch.commit().get();
+    }
+
+    private void createRoom(WriteBatch batch, String postId, String hostUserId) {
+        var now = FieldValue.serverTimestamp();
+        var roomRef = room(postId);
+        // 채팅방 메타데이터 + 호스트를 첫 번째 멤버로 추가
+        // create는 문서가 이미 있으면 실패 → 재시도가 memberCount/status를 덮어쓰지 않음
+        batch.create(roomRef, Map.of(
+                "createdBy", hostUserId,
+                "createdAt", now,
+                "status", "OPEN",
+                "memberCount", 1
+        ));
+        batch.set(member(roomRef, hostUserId), Map.of(
+                "role", "host",
+                "joinedAt", now
+        ));
+    }
+
+    private void closeRoom(WriteBatch batch, String postId) {
+        // merge: 방 문서가 없어도 실패하지 않음 (update는 배치 전체를 실패시킴)
+        batch.set(room(postId), Map.of("status", "CLOSED"), SetOptions.merge());
+    }
+
+    private void applyInTransaction(ChatRoomMutation mutation, Result result) throws InterruptedException {
+        try {
+            switch (mutation.type()) {
+                case ADD_MEMBER -> {
+                    if (!addMember(mutation.postId(), mutation.userId())) {
+                        log.warn("채팅방이 아직 없어 멤버 추가를 미룹니다: {}", mutation);
+                        result.fail(mutation);
+                    }
+                }
+                case REMOVE_MEMBER -> removeMember(mutation.postId(), mutation.userId(), null);
+                case KICK_MEMBER -> removeMember(mutation.postId(), mutation.userId(), mutation.actorUserId());
+                default -> throw new IllegalArgumentException("트랜잭션 대상이 아닌 변경: " + mutation.type());
+            }
+        } catch (ExecutionException e) {
+            log.warn("채팅방 변경 반영 실패: {} ({})", mutation, e.getMessage());
+            result.fail(mutation);
+        }
+    }
+
+    /**
+     * 멤버 추가 (방 문서가 없으면 아무것도 쓰지 않고 false)
+     */
+    private boolean addMember(String postId, String userId) throws ExecutionException, InterruptedException {
+        var roomRef = room(postId);
+        var memberRef = member(roomRef, userId);
+        return firestore.runTransaction(tx -> {
+            List<DocumentSnapshot> docs = tx.getAll(roomRef, memberRef).get();
+            if (!docs.get(0).exists()) return false;
+            if (docs.get(1).exists()) return true;
+
+            tx.set(memberRef, Map.of(
+                    "role", "member",
+                    "joinedAt", FieldValue.serverTimestamp()
+            ));
+            tx.update(roomRef, "memberCount", FieldValue.increment(1));
+            return true;
+        }).get();
+    }
+
+    /**
+     * 멤버 제거 (hostUserId가 있으면 강퇴: 방장 권한 확인 후 제거)
+     */
+    private void removeMember(String postId, String userId, String hostUserId)
+            throws ExecutionException, InterruptedException {
+        var roomRef = room(postId);
+        var memberRef = member(roomRef, userId);
+        firestore.runTransaction(tx -> {
+            List<DocumentSnapshot> docs = tx.getAll(roomRef, memberRef).get();
+            DocumentSnapshot roomDoc = docs.get(0);
+            if (hostUserId != null) {
+                // 호스트 권한 확인 + 자기 자신 강퇴 방지
+                if (!roomDoc.exists() || !hostUserId.equals(roomDoc.getString("createdBy"))
+                        || hostUserId.equals(userId)) {
+                    log.warn("채팅방 {} 강퇴 거부: 요청자 {}, 대상 {}", postId, hostUserId, userId);
+                    return null;
+                }
+            }
+            if (!docs.get(1).exists()) return null;
+
+            tx.delete(memberRef);
+            if (roomDoc.exists()) tx.update(roomRef, "memberCount", FieldValue.increment(-1));
+            return null;
+        }).get();
+    }
+
+    private DocumentReference room(String postId) {
+        return firestore.collection("rooms").document(postId);
+    }
+
+    private DocumentReference member(DocumentReference roomRef, String userId) {
+        return roomRef.collection("members").document(userId);
+    }
+
+    private static int writesOf(ChatRoomMutation mutation) {
+        return mutation.type() == ChatRoomMutation.Type.CREATE_ROOM ? 2 : 1;
+    }
+
+    /**
+     * 실패 원인 체인에서 Firestore 상태 코드 확인
+     */
+    private static boolean hasCode(Throwable error, StatusCode.Code code) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof ApiException api && api.getStatusCode().getCode() == code) return true;
+            if (t instanceof FirestoreException fe && fe.getStatus() != null
+                    && fe.getStatus().getCode().name().equals(code.name())) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 반영 실패 목록 + 실패한 채팅방 (같은 방의 이후 변경은 시도하지 않음)
+     */
+    private static class Result {
+        private final List<ChatRoomMutation> failed = new ArrayList<>();
+        private final Set<String> blockedRooms = new HashSet<>();
+
+        boolean isBlocked(ChatRoomMutation mutation) {
+            return blockedRooms.contains(mutation.postId());
+        }
+
+        void fail(ChatRoomMutation mutation) {
+            failed.add(mutation);
+            blockedRooms.add(mutation.postId());
+        }
+    }
+}
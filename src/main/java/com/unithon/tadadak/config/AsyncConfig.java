@@ -0,0 +1,33 @@
+package com.unithon.tadadak.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 📝 비동기 추천 파이프라인 전용 스레드풀 (후보 조회/신뢰도 집계/응답 변환)
+     * - 서블릿 스레드는 요청을 넘긴 뒤 바로 반환되고, 대기열이 가득 차면 즉시 거절
+     */
+    @Bean(name = "recommendExecutor")
+    public Executor recommendExecutor(
+            @Value("${recommend.async.pool-size:16}") int poolSize,
+            @Value("${recommend.async.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("recommend-async-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
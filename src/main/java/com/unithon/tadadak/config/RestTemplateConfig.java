@@ -1,8 +1,19 @@
 package com.unithon.tadadak.config;
 
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
@@ -12,4 +23,44 @@ public class RestTemplateConfig {
     public RestTemplate restTemplate() {
         return new RestTemplate();
     }
+
+    /**
+     * 📝 AI 추천 서버 전용 RestTemplate
+     * - 커넥션 풀(keep-alive, route별 상한) + 연결/응답 타임아웃
+     * - RestTemplateBuilder로 생성해 http.client.requests 메트릭 자동 수집
+     */
+    @Bean
+    public RestTemplate recommendRestTemplate(
+            RestTemplateBuilder builder,
+            @Value("${ai.recommender.http.max-connections:32}") int maxConnections,
+            @Value("${ai.recommender.http.max-connections-per-route:16}") int maxConnectionsPerRoute,
+            @Value("${ai.recommender.http.connect-timeout-ms:300}") long connectTimeoutMillis,
+            @Value("${ai.recommender.http.read-timeout-ms:2000}") long readTimeoutMillis,
+            @Value("${ai.recommender.http.pool-wait-ms:200}") long poolWaitMillis,
+            @Value("${ai.recommender.http.keep-alive-ms:30000}") long keepAliveMillis) {
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAliveMillis))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(keepAliveMillis))
+                .build();
+
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
 }
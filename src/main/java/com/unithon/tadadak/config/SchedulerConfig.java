@@ -1,29 +1,41 @@
 package com.unithon.tadadak.config;
 
-import com.unithon.tadadak.post.repository.PostRepository;
+import com.unithon.tadadak.post.service.PostService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 
+@Slf4j
 @EnableScheduling
 @Component
 @RequiredArgsConstructor
 public class SchedulerConfig {
 
-    private final PostRepository postRepository;
+    private final PostService postService;
 
-    @Scheduled(fixedRate = 60000) // 60초마다 실행
+    @Value("${post.expiry.chunk-size:500}")
+    private int chunkSize;
+
+    // 출발 시각 만료는 PostExpiryScheduler가 담당, 이 배치는 놓친 항목 정리용 (기본 10분)
+    @Scheduled(fixedRateString = "${post.expiry.backstop-ms:600000}")
     public void expireOldPosts() {
         LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int expired;
+
+        // 청크 단위 트랜잭션으로 반복 (만료 대상 수만큼만 일함)
+        do {
+            expired = postService.expireDepartedPosts(now, chunkSize);
+            total += expired;
+        } while (expired == chunkSize);
 
-        postRepository.findAll().forEach(post -> {
-            if (post.getStatus().equals("OPEN") && post.getDepartureTime().isBefore(now)) {
-                post.setStatus("EXPIRED");
-                postRepository.save(post);
-            }
-        });
+        if (total > 0) {
+            log.info("Expired {} posts departed before {}", total, now);
+        }
     }
 }
@@ -0,0 +1,59 @@
+package com.unithon.tadadak.global.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 📝 위도/경도를 고정 크기 격자 셀로 변환하는 유틸
+ * - 셀 크기는 0.01도 (위도 방향 약 1.1km)
+ * - 셀 키는 (위도 인덱스, 경도 인덱스)를 하나의 long으로 합친 값
+ */
+public final class GeoCell {
+
+    public static final double CELL_DEGREES = 0.01;
+
+    private static final long LNG_CELLS = (long) Math.ceil(360.0 / CELL_DEGREES) + 1;
+
+    private GeoCell() {
+    }
+
+    public static int latIndex(double lat) {
+        return (int) Math.floor((lat + 90.0) / CELL_DEGREES);
+    }
+
+    public static int lngIndex(double lng) {
+        return (int) Math.floor((lng + 180.0) / CELL_DEGREES);
+    }
+
+    public static long key(int latIndex, int lngIndex) {
+        return latIndex * LNG_CELLS + lngIndex;
+    }
+
+    public static long of(double lat, double lng) {
+        return key(latIndex(lat), lngIndex(lng));
+    }
+
+    /**
+     * 경계박스가 걸치는 셀 개수
+     */
+    public static long countCells(double minLat, double maxLat, double minLng, double maxLng) {
+        long rows = latIndex(maxLat) - latIndex(minLat) + 1L;
+        long cols = lngIndex(maxLng) - lngIndex(minLng) + 1L;
+        return rows <= 0 || cols <= 0 ? 0 : rows * cols;
+    }
+
+    /**
+     * 경계박스가 걸치는 셀 키 목록 (DB cell 컬럼 IN 조회용)
+     */
+    public static List<Long> cellsIn(double minLat, double maxLat, double minLng, double maxLng) {
+        List<Long> cells = new ArrayList<>();
+        int lngFrom = lngIndex(minLng);
+        int lngTo = lngIndex(maxLng);
+        for (int latIdx = latIndex(minLat); latIdx <= latIndex(maxLat); latIdx++) {
+            for (int lngIdx = lngFrom; lngIdx <= lngTo; lngIdx++) {
+                cells.add(key(latIdx, lngIdx));
+            }
+        }
+        return cells;
+    }
+}
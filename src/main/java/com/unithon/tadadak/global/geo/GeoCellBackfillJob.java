@@ -0,0 +1,113 @@
+package com.unithon.tadadak.global.geo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 📝 셀 컬럼 백필
+ * - 셀 컬럼 추가 이전에 저장된 location.cell_key, post.start_cell/end_cell을 채움
+ * - 셀 계산은 저장 시와 같은 GeoCell로 (SQL 부동소수점 계산과 경계에서 어긋나지 않도록)
+ * - 시작 후 별도 스레드에서 chunkSize건씩 반복, 채울 행이 없으면 바로 종료
+ * - 청크마다 PK 키셋(마지막 ID 이후)으로 이어서 조회 → 이미 훑은 구간을 다시 읽지 않음
+ */
+@Slf4j
+@Component
+public class GeoCellBackfillJob {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+
+    public GeoCellBackfillJob(JdbcTemplate jdbcTemplate,
+                              @Value("${geo.backfill.enabled:true}") boolean enabled,
+                              @Value("${geo.backfill.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) return;
+        Thread worker = new Thread(this::run, "geo-cell-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void run() {
+        try {
+            int locations = backfillLocations();
+            int posts = backfillPosts();
+            if (locations > 0 || posts > 0) {
+                log.info("Geo cell backfill done: {} locations, {} posts", locations, posts);
+            }
+        } catch (Exception e) {
+            log.error("Geo cell backfill failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private int backfillLocations() {
+        int total = 0;
+        long lastId = 0;
+        List<Object[]> updates;
+        do {
+            updates = jdbcTemplate.query("""
+                    SELECT location_id, latitude, longitude
+                    FROM location
+                    WHERE location_id > ?
+                      AND cell_key IS NULL AND latitude IS NOT NULL AND longitude IS NOT NULL
+                    ORDER BY location_id
+                    LIMIT ?
+                    """,
+                    (rs, rowNum) -> new Object[] {
+                            GeoCell.of(rs.getDouble("latitude"), rs.getDouble("longitude")),
+                            rs.getLong("location_id")
+                    },
+                    lastId, chunkSize);
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE location SET cell_key = ? WHERE location_id = ?", updates);
+                total += updates.size();
+                lastId = (Long) updates.get(updates.size() - 1)[1];
+            }
+        } while (updates.size() == chunkSize);
+        return total;
+    }
+
+    private int backfillPosts() {
+        int total = 0;
+        long lastId = 0;
+        List<Object[]> updates;
+        do {
+            // Location 백필 이후 실행되므로 셀은 Location에서 그대로 복사
+            updates = jdbcTemplate.query("""
+                    SELECT p.post_id, sl.cell_key AS start_cell, el.cell_key AS end_cell
+                    FROM post p
+                    JOIN location sl ON sl.location_id = p.start_location_id
+                    JOIN location el ON el.location_id = p.end_location_id
+                    WHERE p.post_id > ?
+                      AND (p.start_cell IS NULL OR p.end_cell IS NULL)
+                      AND sl.cell_key IS NOT NULL AND el.cell_key IS NOT NULL
+                    ORDER BY p.post_id
+                    LIMIT ?
+                    """,
+                    (rs, rowNum) -> new Object[] {
+                            rs.getLong("start_cell"),
+                            rs.getLong("end_cell"),
+                            rs.getLong("post_id")
+                    },
+                    lastId, chunkSize);
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE post SET start_cell = ?, end_cell = ? WHERE post_id = ?", updates);
+                total += updates.size();
+                lastId = (Long) updates.get(updates.size() - 1)[2];
+            }
+        } while (updates.size() == chunkSize);
+        return total;
+    }
+}
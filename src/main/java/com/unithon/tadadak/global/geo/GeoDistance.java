@@ -0,0 +1,46 @@
+package com.unithon.tadadak.global.geo;
+
+/**
+ * 📝 좌표 간 거리 계산 유틸 (미터)
+ * - 기준점이 고정된 반복 계산은 Origin으로 기준점 라디안/cos을 한 번만 계산
+ * - 위/경도 차가 FAST_PATH_DEGREES 이내면 등장방형 근사 (삼각함수 없이 곱셈만, 약 25km 이내 오차 0.2% 미만)
+ */
+public final class GeoDistance {
+
+    public static final double EARTH_RADIUS_M = 6371000;
+
+    private static final double FAST_PATH_DEGREES = 0.25;
+
+    private GeoDistance() {
+    }
+
+    /**
+     * Haversine 거리
+     */
+    public static double haversine(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return EARTH_RADIUS_M * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    public record Origin(double lat, double lng, double cosLat) {
+
+        public static Origin of(double lat, double lng) {
+            return new Origin(lat, lng, Math.cos(Math.toRadians(lat)));
+        }
+
+        public double distanceTo(double lat, double lng) {
+            double dLatDeg = lat - this.lat;
+            double dLngDeg = lng - this.lng;
+            if (Math.abs(dLatDeg) > FAST_PATH_DEGREES || Math.abs(dLngDeg) > FAST_PATH_DEGREES) {
+                return haversine(this.lat, this.lng, lat, lng);
+            }
+            double x = Math.toRadians(dLngDeg) * cosLat;
+            double y = Math.toRadians(dLatDeg);
+            return EARTH_RADIUS_M * Math.sqrt(x * x + y * y);
+        }
+    }
+}
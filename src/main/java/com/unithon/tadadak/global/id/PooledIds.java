@@ -0,0 +1,14 @@
+package com.unithon.tadadak.global.id;
+
+/**
+ * 📝 풀링 ID 생성 설정
+ * - MySQL에는 시퀀스가 없어 Hibernate가 {엔티티}_seq 테이블로 흉내냄
+ * - ALLOCATION_SIZE개씩 미리 할당받아 INSERT 전에 ID를 알 수 있으므로 JDBC 배치가 가능 (IDENTITY는 배치 불가)
+ */
+public final class PooledIds {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private PooledIds() {
+    }
+}
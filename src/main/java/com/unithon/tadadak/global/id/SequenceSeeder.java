@@ -0,0 +1,47 @@
+package com.unithon.tadadak.global.id;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 📝 시퀀스 테이블 보정
+ * - IDENTITY로 쌓인 기존 행과 겹치지 않도록 시작 시 next_val을 max(id) + 할당 크기 이상으로 올림
+ * - 스키마 생성(ddl-auto) 이후, 요청을 받기 전(싱글톤 초기화 단계)에 실행
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class SequenceSeeder {
+
+    private static final List<SequenceTable> TABLES = List.of(
+            new SequenceTable("location_seq", "location", "location_id"),
+            new SequenceTable("post_seq", "post", "post_id"),
+            new SequenceTable("ride_group_seq", "ride_group", "group_id"),
+            new SequenceTable("outbox_event_seq", "outbox_event", "outbox_id")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void seed() {
+        for (SequenceTable t : TABLES) {
+            // pooled 옵티마이저는 읽은 값을 상한으로 보고 (값 - 할당 크기, 값] 구간을 쓰므로 할당 크기만큼 여유를 둠
+            int updated = jdbcTemplate.update(
+                    "UPDATE " + t.sequence() + " SET next_val = GREATEST(next_val, "
+                            + "(SELECT COALESCE(MAX(" + t.idColumn() + "), 0) + ? + 1 FROM " + t.table() + "))",
+                    PooledIds.ALLOCATION_SIZE);
+            if (updated == 0) {
+                log.warn("Sequence table {} has no row to seed", t.sequence());
+            }
+        }
+    }
+
+    private record SequenceTable(String sequence, String table, String idColumn) { }
+}
@@ -0,0 +1,119 @@
+package com.unithon.tadadak.global.instance;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 📝 단일 인스턴스 실행 보장
+ * - 아웃박스 이벤트는 FOR UPDATE SKIP LOCKED로 한 노드에만 전달되고, 구독자 상태(공간 인덱스, 추천/멤버 수 캐시,
+ *   만료 스케줄러)는 노드 메모리에 있음 → 두 번째 인스턴스가 뜨면 그 노드의 상태가 갱신되지 않음
+ * - 시작 시 MySQL 이름 잠금(GET_LOCK)을 전용 커넥션으로 잡고 종료까지 유지, 잡지 못하면 기동 실패
+ * - heartbeatMillis마다 같은 커넥션으로 잠금 소유를 확인 (커넥션이 끊겨 잠금이 풀렸으면 다시 잡음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.single-instance.enabled", havingValue = "true", matchIfMissing = true)
+public class SingleInstanceGuard {
+
+    private final DataSource dataSource;
+    private final String lockName;
+    private final int waitSeconds;
+
+    private Connection connection;
+
+    public SingleInstanceGuard(DataSource dataSource,
+                               @Value("${app.single-instance.lock-name:tadadak.single-instance}") String lockName,
+                               @Value("${app.single-instance.wait-seconds:10}") int waitSeconds) {
+        this.dataSource = dataSource;
+        this.lockName = lockName;
+        this.waitSeconds = waitSeconds;
+    }
+
+    @PostConstruct
+    public void acquire() throws SQLException {
+        if (!tryAcquire(waitSeconds)) {
+            throw new IllegalStateException("다른 인스턴스가 실행 중입니다 (잠금 " + lockName + "). "
+                    + "이 애플리케이션은 노드별 메모리 상태 때문에 단일 인스턴스로만 실행할 수 있습니다.");
+        }
+        log.info("Single-instance lock {} acquired", lockName);
+    }
+
+    @Scheduled(fixedDelayString = "${app.single-instance.heartbeat-ms:30000}")
+    public synchronized void heartbeat() {
+        try {
+            if (connection != null && !connection.isClosed() && holdsLock()) return;
+            log.warn("Single-instance lock {} was lost, re-acquiring", lockName);
+            if (!tryAcquire(0)) {
+                log.error("Single-instance lock {} is held by another instance. "
+                        + "Per-node caches and indexes on this node are no longer kept in sync.", lockName);
+            }
+        } catch (SQLException e) {
+            log.error("Single-instance lock check failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void release() {
+        if (connection == null) return;
+        try (Connection c = connection;
+             PreparedStatement ps = c.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, lockName);
+            ps.executeQuery().close();
+        } catch (SQLException e) {
+            log.warn("Single-instance lock release failed: {}", e.getMessage());
+        } finally {
+            connection = null;
+        }
+    }
+
+    private synchronized boolean tryAcquire(int timeoutSeconds) throws SQLException {
+        closeQuietly();
+        Connection c = dataSource.getConnection();
+        try (PreparedStatement ps = c.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            ps.setString(1, lockName);
+            ps.setInt(2, timeoutSeconds);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next() && rs.getInt(1) == 1) {
+                    connection = c;
+                    return true;
+                }
+            }
+        } catch (SQLException e) {
+            c.close();
+            throw e;
+        }
+        c.close();
+        return false;
+    }
+
+    private boolean holdsLock() throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT IS_USED_LOCK(?) = CONNECTION_ID()")) {
+            ps.setString(1, lockName);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void closeQuietly() {
+        if (connection == null) return;
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // 이미 끊긴 커넥션
+        } finally {
+            connection = null;
+        }
+    }
+}
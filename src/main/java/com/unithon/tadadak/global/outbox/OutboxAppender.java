@@ -0,0 +1,49 @@
+package com.unithon.tadadak.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📝 도메인 이벤트를 아웃박스 테이블에 기록
+ * - 호출한 서비스의 트랜잭션 안에서만 저장 (롤백되면 이벤트도 함께 사라짐)
+ * - 커밋 직후 릴레이를 깨워 폴링 간격만큼 기다리지 않도록 함
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxAppender {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelay outboxRelay;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 직렬화 실패: " + event.getClass().getName(), e);
+        }
+
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(event.getClass().getName())
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.signal();
+            }
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package com.unithon.tadadak.global.outbox;
+
+import com.unithon.tadadak.global.id.PooledIds;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📝 트랜잭션 아웃박스 레코드
+ * - 도메인 변경과 같은 트랜잭션에서 저장되고, OutboxRelay가 커밋 이후 구독자에게 전달
+ * - publishedAt이 비어 있으면 아직 전달되지 않은 이벤트
+ * - 전달에 실패하면 nextAttemptAt까지 재시도를 미룸 (지수 백오프)
+ * - maxAttempts번 실패하면 failedAt/lastError를 남기고 더 이상 재시도하지 않음 (수동 확인 대상)
+ */
+@Entity
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_pending_failed", columnList = "published_at, failed_at, outbox_id")
+})
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
+    private Long outboxId;
+
+    // 이벤트 클래스 이름 (역직렬화 대상)
+    @Column(nullable = false, length = 200)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    // 이 시각 이전에는 다시 선점하지 않음 (비어 있으면 바로 전달 대상)
+    private LocalDateTime nextAttemptAt;
+
+    // 재시도 한도 초과로 전달을 포기한 시각
+    private LocalDateTime failedAt;
+
+    @Column(length = 500)
+    private String lastError;
+}
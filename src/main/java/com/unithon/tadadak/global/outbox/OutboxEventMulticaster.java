@@ -0,0 +1,32 @@
+package com.unithon.tadadak.global.outbox;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 📝 애플리케이션 이벤트 멀티캐스터 (기본 멀티캐스터 대체)
+ * - 일반 publishEvent 동작은 그대로 (구독자 예외는 발행자에게 전파)
+ * - 아웃박스 릴레이용 multicastIsolated: 구독자 하나가 실패해도 나머지 구독자는 모두 호출하고, 실패만 모아 반환
+ */
+@Component(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+public class OutboxEventMulticaster extends SimpleApplicationEventMulticaster {
+
+    public List<RuntimeException> multicastIsolated(Object source, Object payload) {
+        PayloadApplicationEvent<Object> event = new PayloadApplicationEvent<>(source, payload);
+        List<RuntimeException> errors = new ArrayList<>();
+        for (ApplicationListener<?> listener : getApplicationListeners(event, event.getResolvableType())) {
+            try {
+                invokeListener(listener, event);
+            } catch (RuntimeException e) {
+                errors.add(e);
+            }
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,36 @@
+package com.unithon.tadadak.global.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 📝 미전달 이벤트를 저장 순서대로 선점 (다른 인스턴스가 잠근 행은 건너뜀)
+     * - 호출한 트랜잭션이 끝날 때까지 행 잠금 유지 → 여러 인스턴스가 같은 이벤트를 중복 전달하지 않음
+     * - 전달을 포기한(failed_at) 이벤트, 재시도 대기 중(next_attempt_at)인 이벤트 제외
+     */
+    @Query(value = """
+        SELECT * FROM outbox_event
+        WHERE published_at IS NULL AND failed_at IS NULL
+          AND (next_attempt_at IS NULL OR next_attempt_at <= NOW(6))
+        ORDER BY outbox_id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<OutboxEvent> claimPending(@Param("limit") int limit);
+
+    /**
+     * 📝 보관 기간이 지난 전달 완료 이벤트 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,208 @@
+package com.unithon.tadadak.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📝 아웃박스 릴레이
+ * - 전용 스레드가 미전달 이벤트를 batchSize개씩 선점(FOR UPDATE SKIP LOCKED)해 애플리케이션 이벤트로 재발행
+ *   (구독자: 채팅방, 캐시, 공간 인덱스, 만료 스케줄러)
+ * - 선점~전달 결과 기록이 한 트랜잭션 → 같은 이벤트를 동시에 두 번 전달하지 않음
+ * - 이벤트는 선점한 노드의 구독자에게만 전달되므로 단일 인스턴스 실행 전제 (SingleInstanceGuard가 기동 시 확인)
+ * - 커밋 직후 signal()로 깨어나고, 신호가 없어도 pollMillis마다 한 번씩 확인
+ * - 구독자는 하나가 실패해도 모두 호출, 실패한 이벤트는 attempts를 올리고 nextAttemptAt까지 선점 대상에서 빠짐
+ *   (지수 백오프: initialBackoffMillis부터 두 배씩, 최대 maxBackoffMillis)
+ * - 재시도를 기다리는 이벤트가 뒤 이벤트를 막지 않으므로, 실패한 이벤트는 뒤 이벤트보다 늦게 전달될 수 있음
+ * - 재전달 시 성공했던 구독자도 다시 호출됨 (at-least-once): 구독자는 모두 덮어쓰기/삭제/조건부 생성이라 멱등
+ * - maxAttempts번 실패하면 failedAt을 남기고 에러 로그 + outbox.events{result=dead} 메트릭 후 다음 이벤트로 진행
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventMulticaster multicaster;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long pollMillis;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final long retentionHours;
+
+    private final Semaphore wakeUp = new Semaphore(0);
+    private final Thread worker;
+    private final Counter relayed;
+    private final Counter failed;
+    private final Counter dead;
+
+    private volatile boolean running = true;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxEventMulticaster multicaster,
+                       PlatformTransactionManager transactionManager,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:200}") int batchSize,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.relay.poll-ms:1000}") long pollMillis,
+                       @Value("${outbox.relay.initial-backoff-ms:1000}") long initialBackoffMillis,
+                       @Value("${outbox.relay.max-backoff-ms:300000}") long maxBackoffMillis,
+                       @Value("${outbox.retention-hours:24}") long retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.multicaster = multicaster;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.pollMillis = pollMillis;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.retentionHours = retentionHours;
+        this.worker = new Thread(this::run, "outbox-relay");
+        this.worker.setDaemon(true);
+
+        this.relayed = Counter.builder("outbox.events").tag("result", "relayed").register(meterRegistry);
+        this.failed = Counter.builder("outbox.events").tag("result", "failed").register(meterRegistry);
+        this.dead = Counter.builder("outbox.events").tag("result", "dead").register(meterRegistry);
+    }
+
+    // 애플리케이션 준비 후 전달 시작 (재시작 전 이벤트가 다시 전달되어도 구독자는 멱등)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker.start();
+    }
+
+    /**
+     * 새 이벤트가 커밋되었음을 알림 (블로킹 없음)
+     */
+    public void signal() {
+        if (wakeUp.availablePermits() == 0) wakeUp.release();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 전달 완료 후 보관 기간이 지난 이벤트 정리 (기본 1시간마다)
+     */
+    @Scheduled(fixedRateString = "${outbox.cleanup-ms:3600000}")
+    public void purgePublished() {
+        int deleted = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.info("Purged {} published outbox events", deleted);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                wakeUp.tryAcquire(pollMillis, TimeUnit.MILLISECONDS);
+                wakeUp.drainPermits();
+                while (running && relayBatch()) {
+                    // 밀린 이벤트가 남아 있으면 바로 다음 배치
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (Exception e) {
+                log.error("Outbox relay failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * @return 밀린 이벤트가 더 있어 바로 다음 배치를 처리해도 되면 true
+     */
+    boolean relayBatch() {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            List<OutboxEvent> pending = outboxEventRepository.claimPending(batchSize);
+            LocalDateTime now = LocalDateTime.now();
+            for (OutboxEvent event : pending) {
+                relay(event, now);
+            }
+            return pending.size() == batchSize;
+        }));
+    }
+
+    /**
+     * 이벤트 하나를 모든 구독자에게 전달하고 결과를 기록 (선점한 엔티티라 커밋 시 함께 반영)
+     */
+    private void relay(OutboxEvent event, LocalDateTime now) {
+        Object payload;
+        try {
+            payload = deserialize(event);
+        } catch (Exception e) {
+            // 재시도해도 결과가 같으므로 바로 포기
+            giveUp(event, now, e);
+            return;
+        }
+
+        List<RuntimeException> errors = multicaster.multicastIsolated(this, payload);
+        if (errors.isEmpty()) {
+            event.setPublishedAt(now);
+            relayed.increment();
+            return;
+        }
+
+        RuntimeException error = errors.get(0);
+        errors.stream().skip(1).forEach(error::addSuppressed);
+        event.setAttempts(event.getAttempts() + 1);
+        failed.increment();
+        if (event.getAttempts() >= maxAttempts) {
+            giveUp(event, now, error);
+            return;
+        }
+        long backoffMillis = backoffMillis(event.getAttempts());
+        event.setNextAttemptAt(now.plus(backoffMillis, ChronoUnit.MILLIS));
+        event.setLastError(summarize(error));
+        log.warn("Outbox event {} ({}) 구독자 {}개 전달 실패 ({}/{}회), {}ms 후 재시도: {}",
+                event.getOutboxId(), event.getEventType(), errors.size(), event.getAttempts(), maxAttempts,
+                backoffMillis, error.getMessage());
+    }
+
+    /**
+     * attempts번 실패한 뒤의 재시도 대기 시간 (initialBackoffMillis * 2^(attempts-1), 최대 maxBackoffMillis)
+     */
+    long backoffMillis(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 30);
+        return Math.min(initialBackoffMillis << shift, maxBackoffMillis);
+    }
+
+    private void giveUp(OutboxEvent event, LocalDateTime now, Exception error) {
+        event.setFailedAt(now);
+        event.setLastError(summarize(error));
+        dead.increment();
+        log.error("Outbox event {} ({}) 전달을 포기합니다 ({}회 실패). 수동 확인 필요: {}",
+                event.getOutboxId(), event.getEventType(), event.getAttempts(), event.getPayload(), error);
+    }
+
+    private static String summarize(Exception error) {
+        String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    private Object deserialize(OutboxEvent event) throws Exception {
+        return objectMapper.readValue(event.getPayload(), Class.forName(event.getEventType()));
+    }
+}
@@ -1,16 +1,9 @@
 package com.unithon.tadadak.groupmember.api;
 
-import com.unithon.tadadak.global.exception.CustomException;
-import com.unithon.tadadak.global.exception.ErrorCode;
-import com.unithon.tadadak.groupmember.domain.GroupMember;
 import com.unithon.tadadak.groupmember.dto.GroupChangeResponse;
 import com.unithon.tadadak.groupmember.dto.GroupMemberRequest;
 import com.unithon.tadadak.groupmember.dto.GroupMemberResponse;
 import com.unithon.tadadak.groupmember.service.GroupMemberService;
-import com.unithon.tadadak.groups.domain.Groups;
-import com.unithon.tadadak.groups.repository.GroupsRepository;
-import com.unithon.tadadak.post.domain.Post;
-import com.unithon.tadadak.post.repository.PostRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -24,8 +17,6 @@ import java.util.List;
 public class GroupMemberController {
 
     private final GroupMemberService service;
-    private final GroupsRepository groupsRepository;   // 🆕 추가
-    private final PostRepository postRepository;       // 🆕 추가
 
     @PostMapping
     public ResponseEntity<GroupChangeResponse> joinGroup(
@@ -36,24 +27,8 @@ public class GroupMemberController {
         Long userId = getCurrentUserId(httpRequest);
         request.setUserId(userId);
 
-        // 서비스 내부에서: 인원 +1, perMember 재계산
-        GroupMemberResponse res = service.joinGroup(request);
-
-        // 갱신된 그룹/포스트 재조회
-        Groups group = groupsRepository.findById(request.getGroupId())
-                .orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND));
-        Post post = postRepository.findById(group.getPost().getPostId())
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
-
-        GroupChangeResponse body = GroupChangeResponse.builder()
-                .postId(post.getPostId())
-                .groupId(group.getGroupId())
-                .currentMembers(group.getCurrentMemberCount())
-                .estimatedPrice(post.getEstimatedPrice())
-                .estimatePricePerMember(post.getEstimatePricePerMember())
-                .build();
-
-        return ResponseEntity.ok(body);
+        // 서비스 내부에서: 인원 +1, perMember 재계산 → 갱신된 인원/금액 반환
+        return ResponseEntity.ok(service.joinGroup(request));
     }
 
     // 관리자/호스트용 멤버 제거 (필요시)
@@ -67,24 +42,8 @@ public class GroupMemberController {
         Long hostUserId = getCurrentUserId(request);
         // TODO: hostUserId가 해당 그룹의 호스트인지 검증 로직 추가
 
-        // 서비스 내부에서: 인원 -1, perMember 재계산
-        service.leaveGroup(groupId, userId);
-
-        // 갱신된 그룹/포스트 재조회
-        Groups group = groupsRepository.findById(groupId)
-                .orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND));
-        Post post = postRepository.findById(group.getPost().getPostId())
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
-
-        GroupChangeResponse body = GroupChangeResponse.builder()
-                .postId(post.getPostId())
-                .groupId(group.getGroupId())
-                .currentMembers(group.getCurrentMemberCount())
-                .estimatedPrice(post.getEstimatedPrice())
-                .estimatePricePerMember(post.getEstimatePricePerMember())
-                .build();
-
-        return ResponseEntity.ok(body);
+        // 서비스 내부에서: 인원 -1, perMember 재계산 → 갱신된 인원/금액 반환
+        return ResponseEntity.ok(service.leaveGroup(groupId, userId));
     }
 
 
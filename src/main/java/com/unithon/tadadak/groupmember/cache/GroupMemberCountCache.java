@@ -0,0 +1,85 @@
+package com.unithon.tadadak.groupmember.cache;
+
+import com.unithon.tadadak.groupmember.event.GroupMemberCountChangedEvent;
+import com.unithon.tadadak.groupmember.repository.GroupMemberCountRow;
+import com.unithon.tadadak.groupmember.repository.GroupMemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.context.event.EventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 📝 그룹별 멤버 수 캐시 (LRU)
+ * - 캐시에 없는 그룹만 GROUP BY 쿼리 1회로 한꺼번에 조회
+ * - 참여/나가기 커밋 후 해당 그룹 항목 무효화
+ */
+@Component
+public class GroupMemberCountCache {
+
+    private final GroupMemberRepository groupMemberRepository;
+    private final int maxSize;
+
+    private final LinkedHashMap<Long, Long> counts;
+    private final AtomicLong generation = new AtomicLong();
+
+    public GroupMemberCountCache(GroupMemberRepository groupMemberRepository,
+                                 @Value("${groupmember.count-cache.max-size:5000}") int maxSize) {
+        this.groupMemberRepository = groupMemberRepository;
+        this.maxSize = maxSize;
+        this.counts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > GroupMemberCountCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 그룹 ID → 멤버 수 (멤버가 없는 그룹은 0)
+     */
+    public Map<Long, Long> getCounts(Collection<Long> groupIds) {
+        Map<Long, Long> result = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        synchronized (counts) {
+            for (Long groupId : groupIds) {
+                Long count = counts.get(groupId);
+                if (count != null) result.put(groupId, count);
+                else missing.add(groupId);
+            }
+        }
+        if (missing.isEmpty()) return result;
+
+        long observedGeneration = generation.get();
+        Map<Long, Long> loaded = new HashMap<>();
+        missing.forEach(id -> loaded.put(id, 0L));
+        for (GroupMemberCountRow row : groupMemberRepository.countByGroupIds(missing)) {
+            loaded.put(row.getGroupId(), row.getMemberCount());
+        }
+        result.putAll(loaded);
+
+        synchronized (counts) {
+            // 조회 중 참여/나가기가 있었다면 이전 값일 수 있으므로 저장하지 않음
+            if (generation.get() == observedGeneration) counts.putAll(loaded);
+        }
+        return result;
+    }
+
+    public long getCount(Long groupId) {
+        return getCounts(Set.of(groupId)).get(groupId);
+    }
+
+    @EventListener
+    public void onGroupMemberCountChanged(GroupMemberCountChangedEvent event) {
+        synchronized (counts) {
+            generation.incrementAndGet();
+            counts.remove(event.groupId());
+        }
+    }
+}
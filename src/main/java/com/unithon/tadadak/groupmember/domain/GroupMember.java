@@ -2,6 +2,7 @@ package com.unithon.tadadak.groupmember.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 import java.time.LocalDateTime;
 
 @Entity
@@ -11,7 +12,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @IdClass(GroupMemberId.class)
-public class GroupMember {
+public class GroupMember implements Persistable<GroupMemberId> {
 
     @Id
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,6 +34,13 @@ public class GroupMember {
     @Column(name = "joined_at", nullable = false)
     private LocalDateTime joinedAt;
 
+    /**
+     * 신규 여부 (복합 키라 save 시 merge → SELECT가 먼저 나가는 것을 막고 바로 persist)
+     */
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
     @PrePersist
     public void prePersist() {
         this.joinedAt = LocalDateTime.now();
@@ -40,4 +48,20 @@ public class GroupMember {
             this.paymentStatus = PaymentStatus.WAIT;
         }
     }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    @Override
+    public GroupMemberId getId() {
+        return new GroupMemberId(group.getGroupId(), user.getUserId());
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.unithon.tadadak.groupmember.event;
+
+/**
+ * 📝 그룹 참여/탈퇴로 현재 인원이 바뀌었을 때 발행되는 이벤트
+ */
+public record GroupMemberCountChangedEvent(
+        Long postId,
+        Long groupId,
+        int currentMembers,
+        int maxMembers
+) { }
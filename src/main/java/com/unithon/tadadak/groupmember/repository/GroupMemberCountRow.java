@@ -0,0 +1,6 @@
+package com.unithon.tadadak.groupmember.repository;
+
+public interface GroupMemberCountRow {
+    Long getGroupId();
+    Long getMemberCount();
+}
@@ -3,9 +3,11 @@ package com.unithon.tadadak.groupmember.repository;
 import com.unithon.tadadak.groupmember.domain.GroupMember;
 import com.unithon.tadadak.groupmember.domain.GroupMemberId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,6 +43,44 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, GroupM
     @Query("SELECT gm FROM GroupMember gm WHERE gm.group.groupId = :groupId")
     List<GroupMember> findByGroupId(@Param("groupId") Long groupId);
     
+    /**
+     * 여러 그룹의 멤버 수 일괄 조회 (멤버가 없는 그룹은 결과에 없음)
+     */
+    @Query("""
+        SELECT gm.group.groupId AS groupId, COUNT(gm) AS memberCount
+        FROM GroupMember gm
+        WHERE gm.group.groupId IN :groupIds
+        GROUP BY gm.group.groupId
+        """)
+    List<GroupMemberCountRow> countByGroupIds(@Param("groupIds") Collection<Long> groupIds);
+
+    /**
+     * 여러 Post의 그룹 멤버 평균 신뢰도 일괄 조회 (Post 단위 집계)
+     * - 신뢰도가 없는 멤버는 0으로 계산 (기존 멤버별 합산 방식과 동일)
+     */
+    @Query("""
+        SELECT g.post.postId AS postId, AVG(COALESCE(u.trustScore, 0)) AS averageTrust, COUNT(gm) AS memberCount
+        FROM GroupMember gm
+        JOIN gm.group g
+        JOIN gm.user u
+        WHERE g.post.postId IN :postIds
+        GROUP BY g.post.postId
+        """)
+    List<PostTrustRow> findAverageTrustByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 📝 그룹 나가기: 호스트가 아닌 멤버만 삭제 (조회 없이 DELETE 1회)
+     * @return 1이면 삭제 성공, 0이면 멤버 아님/호스트
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM GroupMember gm
+        WHERE gm.group.groupId = :groupId
+          AND gm.user.userId = :userId
+          AND gm.isHost = false
+        """)
+    int deleteNonHostMember(@Param("groupId") Long groupId, @Param("userId") Long userId);
+
     /**
      * 특정 사용자의 모든 참여 내역 조회
      */
@@ -0,0 +1,7 @@
+package com.unithon.tadadak.groupmember.repository;
+
+public interface PostTrustRow {
+    Long getPostId();
+    Double getAverageTrust(); // 그룹 멤버 trust_score 평균
+    Long getMemberCount();
+}
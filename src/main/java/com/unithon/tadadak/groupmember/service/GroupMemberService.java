@@ -2,146 +2,176 @@ package com.unithon.tadadak.groupmember.service;
 
 import com.unithon.tadadak.global.exception.CustomException;
 import com.unithon.tadadak.global.exception.ErrorCode;
+import com.unithon.tadadak.global.outbox.OutboxAppender;
 import com.unithon.tadadak.groupmember.domain.GroupMember;
 import com.unithon.tadadak.groupmember.domain.GroupMemberId;
+import com.unithon.tadadak.groupmember.dto.GroupChangeResponse;
 import com.unithon.tadadak.groupmember.dto.GroupMemberRequest;
 import com.unithon.tadadak.groupmember.dto.GroupMemberResponse;
+import com.unithon.tadadak.groupmember.event.GroupMemberCountChangedEvent;
 import com.unithon.tadadak.groupmember.repository.GroupMemberRepository;
+import com.unithon.tadadak.groups.repository.GroupSeatRow;
 import com.unithon.tadadak.groups.repository.GroupsRepository;
 import com.unithon.tadadak.groups.domain.Groups;
-import com.unithon.tadadak.post.domain.Post;
-import com.unithon.tadadak.post.repository.PostRepository;
+import com.unithon.tadadak.post.domain.PostPricing;
 import com.unithon.tadadak.user.repository.UserRepository;
-import com.unithon.tadadak.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.sql.SQLException;
 import java.util.List;
-import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GroupMemberService {
 
+    // MySQL 오류 코드: 중복 키 / 참조 대상 없음(FK)
+    private static final int MYSQL_DUPLICATE_KEY = 1062;
+    private static final int MYSQL_NO_REFERENCED_ROW = 1452;
+
     private final GroupMemberRepository repository;
     private final GroupsRepository groupsRepository;
     private final UserRepository userRepository;
-    private final PostRepository postRepository;
+    private final OutboxAppender outboxAppender;
 
+    /**
+     * 📝 그룹 참여
+     * - 조건부 UPDATE 1회로 중복 참여/정원/모집 상태 확인 + 인원 증가
+     * - 그룹/사용자는 참조 프록시로만 연결 (SELECT 없음), 멤버 INSERT는 바로 flush
+     * - 없는 사용자(FK 위반) → USER_NOT_FOUND, 동시 중복 참여(PK 위반) → DUPLICATE_JOIN (롤백으로 좌석 예약도 취소)
+     * - 응답용 인원/금액은 요약 조회 1회 (Post 행은 갱신하지 않음)
+     */
     @Transactional
-    public GroupMemberResponse joinGroup(GroupMemberRequest request) {
-        // 그룹과 사용자 엔티티 조회
-        Groups group = groupsRepository.findById(request.getGroupId())
-                .orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND));
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        Post post = postRepository.findById(group.getPost().getPostId())
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
-
-        // 이미 참여했는지 확인
-        if (repository.existsByGroupIdAndUserId(group.getGroupId(), user.getUserId())) {
-            throw new CustomException(ErrorCode.DUPLICATE_JOIN);
-        }
+    public GroupChangeResponse joinGroup(GroupMemberRequest request) {
+        Long groupId = request.getGroupId();
+        Long userId = request.getUserId();
 
-        // 🆕 그룹 참여 가능 여부 확인
-        if (!group.canJoin()) {
-            if (group.isFull()) {
-                log.warn("그룹 {} 정원 초과: 현재 {}/{} 명",
-                        group.getGroupId(), group.getCurrentMemberCount(), group.getMaxMemberCount());
-                throw new CustomException(ErrorCode.GROUP_FULL);
-            } else {
-                log.warn("그룹 {} 참여 불가능한 상태: {}", group.getGroupId(), group.getStatus());
-                throw new CustomException(ErrorCode.INVALID_REQUEST);
-            }
+        // 🆕 좌석 예약 (실패 시에만 사유 판별용 조회)
+        if (groupsRepository.tryReserveSeat(groupId, userId) == 0) {
+            throw seatRejection(groupId, userId);
         }
 
         // 그룹 멤버 생성
         GroupMember member = GroupMember.builder()
-                .group(group)
-                .user(user)
+                .group(groupsRepository.getReferenceById(groupId))
+                .user(userRepository.getReferenceById(userId))
                 .isHost(request.isHost())
                 .paymentStatus(request.getPaymentStatus())
                 .build();
-
-        GroupMember savedMember = repository.save(member);
-
-        // 🆕 그룹 현재 인원수 증가
-        group.incrementMemberCount();
-        groupsRepository.save(group);
-
-        // 🆕 인원수에 따라 1인당 예상 금액 재계산
-        if (group.getCurrentMemberCount() > 0 && post.getEstimatedPrice() != null) {
-            int updatedPerMemberPrice = post.getEstimatedPrice() / group.getCurrentMemberCount();
-            post.setEstimatePricePerMember(updatedPerMemberPrice);
-            postRepository.save(post);
-            log.info("Post {} 1인당 예상 금액 갱신: {}", post.getPostId(), updatedPerMemberPrice);
+        try {
+            repository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            throw insertRejection(e, groupId, userId);
         }
 
+        GroupSeatRow seats = loadSeatSummary(groupId);
+        publishCountChanged(seats);
+
         log.info("사용자 {}가 그룹 {}에 참여 완료. 현재 인원: {}/{}",
-                user.getUserId(), group.getGroupId(),
-                group.getCurrentMemberCount(), group.getMaxMemberCount());
+                userId, groupId, seats.getCurrentMemberCount(), seats.getMaxMemberCount());
 
-        return GroupMemberResponse.from(savedMember);
+        return toChangeResponse(seats);
     }
 
+    /**
+     * 📝 그룹 나가기
+     * - 호스트가 아닌 멤버 DELETE 1회 → 좌석 반납 UPDATE 1회 → 요약 조회 1회 (Post 행은 갱신하지 않음)
+     */
     @Transactional
-    public void leaveGroup(Long groupId, Long userId) {
-        // 그룹 멤버 존재 여부 확인
-        GroupMemberId id = new GroupMemberId(groupId, userId);
-        GroupMember member = repository.findById(id)
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
+    public GroupChangeResponse leaveGroup(Long groupId, Long userId) {
+        // 그룹 멤버 삭제 (🆕 호스트는 그룹을 나갈 수 없음)
+        if (repository.deleteNonHostMember(groupId, userId) == 0) {
+            throw leaveRejection(groupId, userId);
+        }
 
-        // 그룹/포스트 조회
-        Groups group = groupsRepository.findById(groupId)
-                .orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND));
-        Post post = postRepository.findById(group.getPost().getPostId())
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+        // 🆕 좌석 반납 (조건부 UPDATE, 0 이하 방지)
+        groupsRepository.releaseSeat(groupId);
 
-        // 🆕 호스트는 그룹을 나갈 수 없음
-        if (member.isHost()) {
-            log.warn("호스트 {}가 그룹 {}에서 나가려고 시도", userId, groupId);
-            throw new CustomException(ErrorCode.HOST_CANNOT_LEAVE);
-        }
+        GroupSeatRow seats = loadSeatSummary(groupId);
+        publishCountChanged(seats);
+
+        log.info("사용자 {}가 그룹 {}에서 나감. 현재 인원: {}/{}",
+                userId, groupId, seats.getCurrentMemberCount(), seats.getMaxMemberCount());
 
-        // 그룹 멤버 삭제
-        repository.deleteById(id);
+        return toChangeResponse(seats);
+    }
 
-        // 🆕 그룹 현재 인원수 감소 (0 이하 방지)
-        if (group.getCurrentMemberCount() > 0) {
-            group.decrementMemberCount();
+    /**
+     * 좌석 예약 실패 사유 판별 (중복 참여 / 그룹 없음 / 정원 초과 / 모집 중 아님)
+     */
+    private CustomException seatRejection(Long groupId, Long userId) {
+        if (repository.existsByGroupIdAndUserId(groupId, userId)) {
+            return new CustomException(ErrorCode.DUPLICATE_JOIN);
+        }
+        Groups group = groupsRepository.findById(groupId)
+                .orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND));
+        if (group.isFull()) {
+            log.warn("그룹 {} 정원 초과: 현재 {}/{} 명",
+                    group.getGroupId(), group.getCurrentMemberCount(), group.getMaxMemberCount());
+            return new CustomException(ErrorCode.GROUP_FULL);
         }
-        groupsRepository.save(group);
+        log.warn("그룹 {} 참여 불가능한 상태: {}", group.getGroupId(), group.getStatus());
+        return new CustomException(ErrorCode.INVALID_REQUEST);
+    }
 
-        // 🆕 인원 감소에 따른 1인당 예상 금액 재계산
-        recalcEstimatePerMember(group, post);
+    /**
+     * 멤버 INSERT 실패 사유 판별 (MySQL 오류 코드 기준)
+     */
+    private RuntimeException insertRejection(DataIntegrityViolationException e, Long groupId, Long userId) {
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        int errorCode = cause instanceof SQLException sql ? sql.getErrorCode() : 0;
+        if (errorCode == MYSQL_DUPLICATE_KEY) {
+            log.warn("사용자 {}의 그룹 {} 동시 중복 참여", userId, groupId);
+            return new CustomException(ErrorCode.DUPLICATE_JOIN);
+        }
+        if (errorCode == MYSQL_NO_REFERENCED_ROW) {
+            // 그룹은 좌석 예약으로 존재가 확인됨 → 참조 실패는 사용자
+            return new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+        return e;
+    }
 
-        log.info("사용자 {}가 그룹 {}에서 나감. 현재 인원: {}/{}",
-                userId, groupId, group.getCurrentMemberCount(), group.getMaxMemberCount());
+    /**
+     * 나가기 실패 사유 판별 (멤버 아님 / 호스트)
+     */
+    private CustomException leaveRejection(Long groupId, Long userId) {
+        GroupMember member = repository.findByGroupIdAndUserId(groupId, userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
+        if (member.isHost()) {
+            log.warn("호스트 {}가 그룹 {}에서 나가려고 시도", userId, groupId);
+            return new CustomException(ErrorCode.HOST_CANNOT_LEAVE);
+        }
+        return new CustomException(ErrorCode.NOT_FOUND);
     }
 
-    private void recalcEstimatePerMember(Groups group, Post post) {
-        Integer total = post.getEstimatedPrice();
-        int count = group.getCurrentMemberCount();
+    private GroupSeatRow loadSeatSummary(Long groupId) {
+        return groupsRepository.findSeatSummary(groupId)
+                .orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND));
+    }
 
-        if (total != null && count > 0) {
-            int perMember = total / count;
-            post.setEstimatePricePerMember(perMember);
-        } else {
-            post.setEstimatePricePerMember(null);
-        }
-        postRepository.save(post);
+    private void publishCountChanged(GroupSeatRow seats) {
+        outboxAppender.append(new GroupMemberCountChangedEvent(
+                seats.getPostId(), seats.getGroupId(),
+                seats.getCurrentMemberCount(), seats.getMaxMemberCount()));
     }
 
     /**
-     * 그룹 인원수에 따라 Post.estimatePricePerMember 재계산
-     * - 총 예상 금액이 null이거나 인원 0명이면 null
-     * - 그 외에는 (총액 / 현재인원)
+     * 갱신된 인원 기준 응답 (1인당 금액은 저장하지 않고 여기서 계산)
      */
+    private GroupChangeResponse toChangeResponse(GroupSeatRow seats) {
+        return GroupChangeResponse.builder()
+                .postId(seats.getPostId())
+                .groupId(seats.getGroupId())
+                .currentMembers(seats.getCurrentMemberCount())
+                .estimatedPrice(seats.getEstimatedPrice())
+                .estimatePricePerMember(PostPricing.perMember(seats.getEstimatedPrice(), seats.getCurrentMemberCount()))
+                .build();
+    }
 
     /**
      * 📝 새로 추가: 특정 그룹의 모든 멤버 조회
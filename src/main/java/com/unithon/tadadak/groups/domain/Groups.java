@@ -1,5 +1,6 @@
 package com.unithon.tadadak.groups.domain;
 
+import com.unithon.tadadak.global.id.PooledIds;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -16,7 +17,8 @@ import java.util.List;
 public class Groups {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ride_group_seq")
+    @SequenceGenerator(name = "ride_group_seq", sequenceName = "ride_group_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "group_id")
     private Long groupId;
 
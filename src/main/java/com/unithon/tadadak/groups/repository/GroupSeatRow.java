@@ -0,0 +1,9 @@
+package com.unithon.tadadak.groups.repository;
+
+public interface GroupSeatRow {
+    Long getGroupId();
+    Long getPostId();
+    Integer getCurrentMemberCount();
+    Integer getMaxMemberCount();
+    Integer getEstimatedPrice(); // Post 총 예상 금액
+}
@@ -2,6 +2,7 @@ package com.unithon.tadadak.groups.repository;
 
 import com.unithon.tadadak.groups.domain.Groups;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -21,6 +22,51 @@ public interface GroupsRepository extends JpaRepository<Groups, Long> {
      */
     @Query("SELECT g FROM Groups g WHERE g.post.postId = :postId")
     List<Groups> findAllByPostId(@Param("postId") Long postId);
+    /**
+     * 📝 좌석 예약: 모집 중 + 정원 미달 + 미참여일 때만 인원 +1
+     * - 중복 참여 확인과 정원 확인/증가를 조건부 UPDATE 한 번으로 원자적으로 처리
+     * @return 1이면 예약 성공, 0이면 중복 참여/정원 초과/모집 종료/그룹 없음
+     */
+    @Modifying
+    @Query("""
+        UPDATE Groups g
+        SET g.currentMemberCount = g.currentMemberCount + 1
+        WHERE g.groupId = :groupId
+          AND g.status = 'WAITING'
+          AND g.currentMemberCount < g.maxMemberCount
+          AND NOT EXISTS (
+            SELECT 1 FROM GroupMember gm
+            WHERE gm.group.groupId = :groupId AND gm.user.userId = :userId
+          )
+        """)
+    int tryReserveSeat(@Param("groupId") Long groupId, @Param("userId") Long userId);
+
+    /**
+     * 📝 좌석 반납: 인원 -1 (0 미만으로 내려가지 않음)
+     * @return 1이면 반납 성공
+     */
+    @Modifying
+    @Query("""
+        UPDATE Groups g
+        SET g.currentMemberCount = g.currentMemberCount - 1
+        WHERE g.groupId = :groupId
+          AND g.currentMemberCount > 0
+        """)
+    int releaseSeat(@Param("groupId") Long groupId);
+
+    /**
+     * 📝 참여/나가기 응답용 그룹 인원 + Post 금액 요약 (엔티티 로딩 없이 1회 조회)
+     */
+    @Query("""
+        SELECT g.groupId AS groupId, p.postId AS postId,
+               g.currentMemberCount AS currentMemberCount, g.maxMemberCount AS maxMemberCount,
+               p.estimatedPrice AS estimatedPrice
+        FROM Groups g
+        JOIN g.post p
+        WHERE g.groupId = :groupId
+        """)
+    Optional<GroupSeatRow> findSeatSummary(@Param("groupId") Long groupId);
+
     /**
      * 정원이 차지 않은 활성 그룹들 조회
      */
@@ -1,23 +1,36 @@
 package com.unithon.tadadak.location.domain;
 
+import com.unithon.tadadak.global.geo.GeoCell;
+import com.unithon.tadadak.global.id.PooledIds;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        // 반경 검색 박스 프리필터: latitude 범위 + longitude 조건
+        @Index(name = "idx_location_lat_lng", columnList = "latitude, longitude"),
+        @Index(name = "idx_location_cell", columnList = "cell_key")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Location {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "location_seq")
+    @SequenceGenerator(name = "location_seq", sequenceName = "location_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long locationId;
 
     private Double latitude;
     private Double longitude;
 
+    // 📝 GeoCell 격자 셀 키 (저장 시 좌표로 계산, 기존 행은 GeoCellBackfillJob이 채움)
+    @Column(name = "cell_key")
+    private Long cellKey;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private com.unithon.tadadak.user.domain.User user; // 실시간 위치 (nullable)
@@ -28,4 +41,10 @@ public class Location {
     private Long postId; // 공지 위치일 때의 Post ID (nullable)
 
     private LocalDateTime createdAt;
+
+    @PrePersist
+    @PreUpdate
+    public void updateCellKey() {
+        this.cellKey = latitude != null && longitude != null ? GeoCell.of(latitude, longitude) : null;
+    }
 }
@@ -1,17 +1,24 @@
 package com.unithon.tadadak.post.api;
 
 import com.unithon.tadadak.post.domain.Post;
+import com.unithon.tadadak.post.dto.BulkPostResponse;
 import com.unithon.tadadak.post.dto.DualBoundingBoxRequestDto;
 import com.unithon.tadadak.post.dto.PostRequestDto;
 import com.unithon.tadadak.post.dto.PostResponseDto;
+import com.unithon.tadadak.post.service.PostBulkImporter;
 import com.unithon.tadadak.post.service.PostService;
 import com.unithon.tadadak.recommend.service.RecommendService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @CrossOrigin(origins = "*")
 @RestController
@@ -20,6 +27,9 @@ import java.util.List;
 public class PostController {
     private final PostService postService;
     private final RecommendService recommendService;
+    private final PostBulkImporter postBulkImporter;
+    @Qualifier("recommendExecutor")
+    private final Executor recommendExecutor;
 
     @PostMapping
     public ResponseEntity<PostResponseDto> create(@RequestBody PostRequestDto dto,
@@ -58,6 +68,16 @@ public class PostController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * 📝 Post 대량 생성 (요청자가 호스트, 본문은 BulkPostRequestItem JSON 배열)
+     * - 본문을 스트리밍으로 읽으며 청크 단위로 저장하고 항목별 결과 반환
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkPostResponse> createBulk(HttpServletRequest request) throws IOException {
+        Long userId = getCurrentUserId(request);
+        return ResponseEntity.ok(postBulkImporter.importPosts(userId, request.getInputStream()));
+    }
+
 //    @PostMapping("/intersection")
 //    public ResponseEntity<List<PostResponseDto>> getIntersectionPosts(
 //            @RequestBody DualBoundingBoxRequestDto boxes) {
@@ -111,6 +131,26 @@ public class PostController {
         return ResponseEntity.ok(new RoomsResponse(dtos));
     }
 
+    /**
+     * 📝 박스 추천 비동기 버전
+     * - 후보 조회/신뢰도 집계/AI 호출을 전용 스레드풀에서 처리하고 서블릿 스레드는 즉시 반환
+     * - 게시글 조회도 추천 스레드풀에서 (AI 클라이언트 스레드를 DB 조회에 쓰지 않음)
+     */
+    @PostMapping("/recommend/route/box/async")
+    public CompletableFuture<ResponseEntity<RoomsResponse>> getRecommendedByBoxesAsync(
+            @RequestBody DualBoundingBoxRequestDto boxes,
+            @RequestParam(defaultValue = "20") int topN,
+            @RequestParam(name = "includeJoined", defaultValue = "false") boolean includeJoined,
+            @RequestParam(name = "includePast", defaultValue = "false") boolean includePast,
+            HttpServletRequest request
+    ) {
+        Long userId = getCurrentUserId(request);
+
+        return recommendService.recommendByBoxesAsync(userId, boxes, topN, includeJoined, includePast)
+                .thenApplyAsync(ranked -> ResponseEntity.ok(new RoomsResponse(postService.getPostsByIds(ranked, true))),
+                        recommendExecutor);
+    }
+
     /** 응답 래퍼: { "rooms": [ ... ] } */
     @lombok.Getter
     @lombok.AllArgsConstructor
@@ -1,5 +1,7 @@
 package com.unithon.tadadak.post.domain;
 
+import com.unithon.tadadak.global.geo.GeoCell;
+import com.unithon.tadadak.global.id.PooledIds;
 import com.unithon.tadadak.location.domain.Location;
 import com.unithon.tadadak.user.domain.User;
 import jakarta.persistence.*;
@@ -14,8 +16,16 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        // 만료 배치: WHERE status = 'OPEN' AND departure_time < now
+        @Index(name = "idx_post_status_departure", columnList = "status, departure_time"),
+        // 박스 검색 폴백: WHERE status = 'OPEN' AND start_cell IN (...) AND departure_time > now
+        @Index(name = "idx_post_status_start_cell_departure", columnList = "status, start_cell, departure_time")
+})
 public class Post {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long postId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -31,8 +41,7 @@ public class Post {
     private Location endLocation;
 
     private Integer desiredMembers;
-    private Integer estimatedPrice;
-    private Integer estimatePricePerMember;
+    private Integer estimatedPrice; // 1인당 금액은 PostPricing으로 조회 시 계산
     private LocalDateTime departureTime;
     private String status; // OPEN, CLOSED, EXPIRED
     private LocalDateTime createdAt;
@@ -42,6 +51,13 @@ public class Post {
     @Column(name = "duration_seconds")
     private Integer duration;
 
+    // 📝 출발/도착 Location의 GeoCell 셀 키 (Location을 조인하지 않고 인덱스로 거르기 위한 비정규화)
+    @Column(name = "start_cell")
+    private Long startCell;
+
+    @Column(name = "end_cell")
+    private Long endCell;
+
     // === 연관관계 매핑 ===
 
     /**
@@ -50,4 +66,18 @@ public class Post {
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<com.unithon.tadadak.groups.domain.Groups> groups = new ArrayList<>();
-}
\ No newline at end of file
+
+    /**
+     * 출발/도착 셀 계산 (Location은 생성 후 바뀌지 않으므로 저장 시 한 번만)
+     */
+    @PrePersist
+    public void updateCells() {
+        this.startCell = cellOf(startLocation);
+        this.endCell = cellOf(endLocation);
+    }
+
+    private static Long cellOf(Location location) {
+        if (location == null || location.getLatitude() == null || location.getLongitude() == null) return null;
+        return GeoCell.of(location.getLatitude(), location.getLongitude());
+    }
+}
@@ -0,0 +1,25 @@
+package com.unithon.tadadak.post.domain;
+
+/**
+ * 📝 1인당 예상 금액 계산 규칙 (저장하지 않고 조회 시점에 계산)
+ * - 총 예상 금액을 인원수로 나눈 몫 (원 단위 내림)
+ * - 총액이 없으면 null, 인원이 0 이하면 0
+ */
+public final class PostPricing {
+
+    private PostPricing() {
+    }
+
+    public static Integer perMember(Integer estimatedPrice, int members) {
+        if (estimatedPrice == null) return null;
+        if (members <= 0) return 0;
+        return Math.floorDiv(estimatedPrice, members);
+    }
+
+    /**
+     * 새 멤버가 한 명 더 참여했을 때의 1인당 금액 (추천 목록 표시/랭킹용)
+     */
+    public static Integer perMemberIfJoined(Integer estimatedPrice, int currentMembers) {
+        return perMember(estimatedPrice, Math.max(currentMembers, 0) + 1);
+    }
+}
@@ -0,0 +1,24 @@
+package com.unithon.tadadak.post.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📝 대량 생성 요청의 Post 1건 (출발/도착 좌표로 Location도 함께 생성, 호스트는 요청자)
+ */
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class BulkPostRequestItem {
+    private Double startLatitude;
+    private Double startLongitude;
+    private Double endLatitude;
+    private Double endLongitude;
+
+    private String startAddress;
+    private String endAddress;
+
+    private Integer desiredMembers;
+    private Integer estimatedPrice;
+    private LocalDateTime departureTime;
+    private Integer duration;
+}
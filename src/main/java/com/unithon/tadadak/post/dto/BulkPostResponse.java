@@ -0,0 +1,19 @@
+package com.unithon.tadadak.post.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 📝 대량 생성 응답
+ * - error: 본문 파싱이 중간에 실패했거나 최대 건수를 넘겨 처리를 멈춘 경우 사유 (그 전까지의 결과는 results에 포함)
+ */
+@Getter @NoArgsConstructor @AllArgsConstructor @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkPostResponse {
+    private int createdCount;
+    private int failedCount;
+    private List<BulkPostResult> results;
+    private String error;
+}
@@ -0,0 +1,25 @@
+package com.unithon.tadadak.post.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+/**
+ * 📝 대량 생성 항목별 결과 (index는 요청 배열 내 위치)
+ */
+@Getter @NoArgsConstructor @AllArgsConstructor @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkPostResult {
+    private int index;
+    private boolean created;
+    private Long postId;
+    private Long groupId;
+    private String error;
+
+    public static BulkPostResult created(int index, Long postId, Long groupId) {
+        return BulkPostResult.builder().index(index).created(true).postId(postId).groupId(groupId).build();
+    }
+
+    public static BulkPostResult failed(int index, String error) {
+        return BulkPostResult.builder().index(index).created(false).error(error).build();
+    }
+}
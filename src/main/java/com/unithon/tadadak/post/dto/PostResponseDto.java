@@ -2,6 +2,7 @@ package com.unithon.tadadak.post.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.unithon.tadadak.post.domain.Post;
+import com.unithon.tadadak.post.domain.PostPricing;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -57,7 +58,6 @@ public class PostResponseDto {
         int estimated = post.getEstimatedPrice() != null ? post.getEstimatedPrice() : 0;
         Integer curMembers = (firstGroup != null) ? firstGroup.getCurrentMemberCount() : null;
         int currentMembers = (curMembers != null) ? curMembers : 1;
-        int estimatePerMember = currentMembers > 0 ? (estimated / currentMembers) : 0;
 
         return PostResponseDto.builder()
                 .postId(post.getPostId())
@@ -67,7 +67,7 @@ public class PostResponseDto {
                 .endLocationId(post.getEndLocation() != null ? post.getEndLocation().getLocationId() : null)
                 .desiredMembers(post.getDesiredMembers())
                 .estimatedPrice(estimated)
-                .estimatePricePerMember(estimatePerMember)
+                .estimatePricePerMember(PostPricing.perMember(estimated, currentMembers))
                 .departureTime(post.getDepartureTime())
                 .status(post.getStatus())
                 .createdAt(post.getCreatedAt())
@@ -0,0 +1,18 @@
+package com.unithon.tadadak.post.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📝 Post(+ Groups, 호스트 멤버) 생성 완료 이벤트
+ */
+public record PostCreatedEvent(
+        Long postId,
+        Long hostId,
+        Double startLat,
+        Double startLng,
+        Double endLat,
+        Double endLng,
+        LocalDateTime departureTime,
+        Integer currentMembers,
+        Integer maxMembers
+) { }
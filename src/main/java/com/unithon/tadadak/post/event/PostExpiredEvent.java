@@ -0,0 +1,10 @@
+package com.unithon.tadadak.post.event;
+
+import java.util.List;
+
+/**
+ * 📝 출발 시간이 지나 EXPIRED 처리된 Post ID 목록
+ */
+public record PostExpiredEvent(
+        List<Long> postIds
+) { }
@@ -0,0 +1,9 @@
+package com.unithon.tadadak.post.expiry;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📝 만료 스케줄 재구성용 OPEN Post 출발 시간 요약
+ */
+public record PostDeparture(Long postId, LocalDateTime departureTime) {
+}
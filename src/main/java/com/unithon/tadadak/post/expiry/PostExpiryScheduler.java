@@ -0,0 +1,147 @@
+package com.unithon.tadadak.post.expiry;
+
+import com.unithon.tadadak.post.event.PostCreatedEvent;
+import com.unithon.tadadak.post.event.PostExpiredEvent;
+import com.unithon.tadadak.post.repository.PostRepository;
+import com.unithon.tadadak.post.service.PostService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📝 출발 시간 기준 Post 만료 스케줄러 (DelayQueue)
+ * - Post 생성 시 출발 시간을 등록하고, 시작 시 DB의 OPEN Post로 재구성
+ * - 전용 스레드가 가장 이른 출발 시간까지 잠들어 있다가 도래한 Post를 한 번에 만료 처리
+ * - 놓친 항목은 SchedulerConfig의 저빈도 배치가 정리
+ * - Post당 항목은 하나만 유지하고, 다른 경로로 만료된 Post는 큐에서 제거
+ */
+@Slf4j
+@Component
+public class PostExpiryScheduler {
+
+    private final PostRepository postRepository;
+    private final PostService postService;
+    private final int chunkSize;
+
+    private final DelayQueue<Expiry> queue = new DelayQueue<>();
+    private final Map<Long, Expiry> pendingByPostId = new ConcurrentHashMap<>();
+    private final Thread worker;
+
+    public PostExpiryScheduler(PostRepository postRepository,
+                               PostService postService,
+                               @Value("${post.expiry.chunk-size:500}") int chunkSize) {
+        this.postRepository = postRepository;
+        this.postService = postService;
+        this.chunkSize = chunkSize;
+        this.worker = new Thread(this::run, "post-expiry");
+        this.worker.setDaemon(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<PostDeparture> open = postRepository.findOpenPostDepartures();
+        open.forEach(d -> register(d.postId(), d.departureTime()));
+        worker.start();
+        log.info("Post expiry scheduler started with {} pending posts", queue.size());
+    }
+
+    @EventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        register(event.postId(), event.departureTime());
+    }
+
+    /**
+     * 만료 대상으로 등록 (같은 Post를 다시 등록하면 출발 시간이 바뀐 경우에만 교체)
+     */
+    public void register(Long postId, LocalDateTime departureTime) {
+        if (postId == null || departureTime == null) return;
+        Expiry expiry = new Expiry(postId, dueAtMillis(departureTime));
+        Expiry previous = pendingByPostId.put(postId, expiry);
+        if (expiry.equals(previous)) return;
+        if (previous != null) queue.remove(previous);
+        queue.put(expiry);
+    }
+
+    /**
+     * 저빈도 배치 등 다른 경로로 만료된 Post는 큐에서 제거
+     */
+    @EventListener
+    public void onPostsExpired(PostExpiredEvent event) {
+        for (Long postId : event.postIds()) {
+            Expiry expiry = pendingByPostId.remove(postId);
+            if (expiry != null) queue.remove(expiry);
+        }
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.interrupt();
+    }
+
+    private void run() {
+        List<Expiry> due = new ArrayList<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                due.add(queue.take());
+                queue.drainTo(due, chunkSize - 1);
+                expire(due);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                // 실패한 항목은 저빈도 배치가 다시 처리
+                log.error("Failed to expire {} posts: {}", due.size(), e.getMessage(), e);
+            } finally {
+                due.clear();
+            }
+        }
+    }
+
+    private void expire(List<Expiry> due) {
+        due.forEach(e -> pendingByPostId.remove(e.postId(), e));
+        List<Long> ids = due.stream().map(Expiry::postId).distinct().toList();
+        int expired = postService.expirePosts(ids, LocalDateTime.now());
+        if (expired > 0) {
+            log.debug("Expired {} posts on departure", expired);
+        }
+    }
+
+    /**
+     * 만료 쿼리는 departureTime <= now 이므로 밀리초 미만은 올림 (출발 전에 깨어나 아무것도 만료하지 못하는 일 방지)
+     */
+    static long dueAtMillis(LocalDateTime departureTime) {
+        Instant instant = departureTime.atZone(ZoneId.systemDefault()).toInstant();
+        long millis = instant.toEpochMilli();
+        return instant.getNano() % 1_000_000 == 0 ? millis : millis + 1;
+    }
+
+    private record Expiry(Long postId, long dueAt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAt, ((Expiry) other).dueAt);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.unithon.tadadak.post.index;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📝 공간 인덱스에 올라가는 OPEN Post 요약 정보
+ * - 그룹이 없는 Post는 currentMembers/maxMembers가 null
+ */
+public record IndexedPost(
+        Long postId,
+        Double startLat,
+        Double startLng,
+        Double endLat,
+        Double endLng,
+        LocalDateTime departureTime,
+        Integer currentMembers,
+        Integer maxMembers
+) {
+
+    public IndexedPost withMembers(int currentMembers, int maxMembers) {
+        return new IndexedPost(postId, startLat, startLng, endLat, endLng, departureTime,
+                currentMembers, maxMembers);
+    }
+
+    /**
+     * 정원 미달 여부 (그룹 정보가 없으면 참여 가능으로 봄)
+     */
+    boolean hasSeat() {
+        return currentMembers == null || maxMembers == null || currentMembers < maxMembers;
+    }
+
+    boolean hasCoordinates() {
+        return startLat != null && startLng != null && endLat != null && endLng != null;
+    }
+}
@@ -0,0 +1,150 @@
+package com.unithon.tadadak.post.index;
+
+import com.unithon.tadadak.global.geo.GeoCell;
+import com.unithon.tadadak.groupmember.event.GroupMemberCountChangedEvent;
+import com.unithon.tadadak.post.dto.BoundingBoxRequestDto;
+import com.unithon.tadadak.post.event.PostCreatedEvent;
+import com.unithon.tadadak.post.event.PostExpiredEvent;
+import com.unithon.tadadak.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 📝 OPEN 상태 Post의 출발지 기준 격자 인덱스 (인메모리)
+ * - 시작 시 DB에서 OPEN Post를 한 번 적재하고, 이후에는 생성/만료/인원 변경 이벤트로 갱신
+ * - 출발지 박스가 걸치는 셀만 훑고, 도착지 박스는 항목별 좌표로 거름
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenPostSpatialIndex {
+
+    private final PostRepository postRepository;
+
+    private final Map<Long, IndexedPost> posts = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> postIdsByStartCell = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<IndexedPost> openPosts = postRepository.findOpenPostsForIndex();
+        openPosts.forEach(this::put);
+        ready = true;
+        log.info("Open post spatial index loaded: {} posts in {} cells", posts.size(), postIdsByStartCell.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Optional<IndexedPost> get(Long postId) {
+        return Optional.ofNullable(posts.get(postId));
+    }
+
+    /**
+     * 출발지 박스 ∩ 도착지 박스에 속하는 정원 미달 OPEN Post ID 조회
+     */
+    public List<Long> findIntersecting(BoundingBoxRequestDto dep, BoundingBoxRequestDto dest,
+                                       boolean includePast, LocalDateTime now) {
+        List<Long> result = new ArrayList<>();
+        long cellCount = GeoCell.countCells(dep.getMinLat(), dep.getMaxLat(), dep.getMinLng(), dep.getMaxLng());
+
+        // 박스가 인덱스 전체보다 넓으면 셀 순회 대신 전체 항목을 직접 훑는 편이 빠름
+        if (cellCount > postIdsByStartCell.size()) {
+            for (IndexedPost p : posts.values()) {
+                if (matches(p, dep, dest, includePast, now)) result.add(p.postId());
+            }
+            return result;
+        }
+
+        int latFrom = GeoCell.latIndex(dep.getMinLat());
+        int latTo = GeoCell.latIndex(dep.getMaxLat());
+        int lngFrom = GeoCell.lngIndex(dep.getMinLng());
+        int lngTo = GeoCell.lngIndex(dep.getMaxLng());
+        for (int latIdx = latFrom; latIdx <= latTo; latIdx++) {
+            for (int lngIdx = lngFrom; lngIdx <= lngTo; lngIdx++) {
+                Set<Long> ids = postIdsByStartCell.get(GeoCell.key(latIdx, lngIdx));
+                if (ids == null) continue;
+                for (Long id : ids) {
+                    IndexedPost p = posts.get(id);
+                    if (p != null && matches(p, dep, dest, includePast, now)) result.add(id);
+                }
+            }
+        }
+        return result;
+    }
+
+    @EventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        put(new IndexedPost(event.postId(),
+                event.startLat(), event.startLng(), event.endLat(), event.endLng(),
+                event.departureTime(), event.currentMembers(), event.maxMembers()));
+    }
+
+    @EventListener
+    public void onPostsExpired(PostExpiredEvent event) {
+        event.postIds().forEach(this::remove);
+    }
+
+    @EventListener
+    public void onGroupMemberCountChanged(GroupMemberCountChangedEvent event) {
+        posts.computeIfPresent(event.postId(),
+                (id, p) -> p.withMembers(event.currentMembers(), event.maxMembers()));
+    }
+
+    void put(IndexedPost post) {
+        if (post.postId() == null || !post.hasCoordinates()) return;
+
+        IndexedPost previous = posts.put(post.postId(), post);
+        long cell = GeoCell.of(post.startLat(), post.startLng());
+        if (previous != null) {
+            long previousCell = GeoCell.of(previous.startLat(), previous.startLng());
+            if (previousCell == cell) return;
+            removeFromCell(previousCell, post.postId());
+        }
+        postIdsByStartCell.compute(cell, (key, ids) -> {
+            Set<Long> set = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            set.add(post.postId());
+            return set;
+        });
+    }
+
+    void remove(Long postId) {
+        IndexedPost removed = posts.remove(postId);
+        if (removed != null) {
+            removeFromCell(GeoCell.of(removed.startLat(), removed.startLng()), postId);
+        }
+    }
+
+    private void removeFromCell(long cell, Long postId) {
+        postIdsByStartCell.computeIfPresent(cell, (key, ids) -> {
+            ids.remove(postId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private boolean matches(IndexedPost p, BoundingBoxRequestDto dep, BoundingBoxRequestDto dest,
+                            boolean includePast, LocalDateTime now) {
+        return p.hasSeat()
+                && within(p.startLat(), p.startLng(), dep)
+                && within(p.endLat(), p.endLng(), dest)
+                && (includePast || (p.departureTime() != null && p.departureTime().isAfter(now)));
+    }
+
+    private boolean within(double lat, double lng, BoundingBoxRequestDto box) {
+        return lat >= box.getMinLat() && lat <= box.getMaxLat()
+                && lng >= box.getMinLng() && lng <= box.getMaxLng();
+    }
+}
@@ -0,0 +1,17 @@
+package com.unithon.tadadak.post.repository;
+
+/**
+ * 📝 박스 추천 후보 요약 (랭킹 요청 구성에 필요한 컬럼만)
+ * - 그룹이 없는 Post는 groupId/currentMembers가 null
+ */
+public record BoxCandidateRow(
+        Long postId,
+        Double startLat,
+        Double startLng,
+        Double endLat,
+        Double endLng,
+        Integer estimatedPrice,
+        Long groupId,
+        Integer currentMembers,
+        Float hostTrust
+) { }
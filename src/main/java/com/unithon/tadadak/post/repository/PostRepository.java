@@ -1,41 +1,50 @@
 package com.unithon.tadadak.post.repository;
 
 import com.unithon.tadadak.post.domain.Post;
+import com.unithon.tadadak.post.expiry.PostDeparture;
+import com.unithon.tadadak.post.index.IndexedPost;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    /**
+     * 📝 반경 내 OPEN Post + 호스트 신뢰도 조회
+     * - 반경을 감싸는 위경도 박스로 먼저 거름 (location(latitude, longitude) 인덱스 범위 검색)
+     * - 박스를 통과한 행만 정확한 거리를 한 번 계산하고 HAVING으로 반경 밖을 제외
+     */
     @Query(value = """
-        SELECT 
+        SELECT
             p.post_id       AS postId,
             p.estimated_price AS estimatedPrice,
-            (6371000 * acos(
+            (6371000 * acos(LEAST(1.0,
                 cos(radians(:lat)) * cos(radians(sl.latitude)) *
                 cos(radians(sl.longitude) - radians(:lng)) +
                 sin(radians(:lat)) * sin(radians(sl.latitude))
-            )) AS distanceM,
+            ))) AS distanceM,
             u.trust_score   AS trustScore
-        FROM post p
-        JOIN location sl ON sl.location_id = p.start_location_id
-        JOIN users u ON u.user_id = p.host_id
-        LEFT JOIN ride_groups rg ON rg.post_id = p.post_id
-        WHERE p.status = 'OPEN'
+        FROM location sl
+        JOIN post p ON p.start_location_id = sl.location_id
+        JOIN `user` u ON u.user_id = p.host_id
+        LEFT JOIN ride_group rg ON rg.post_id = p.post_id
+        WHERE sl.latitude BETWEEN :minLat AND :maxLat
+          AND sl.longitude BETWEEN :minLng AND :maxLng
+          AND p.status = 'OPEN'
           AND p.departure_time > NOW()
           AND (rg.group_id IS NULL OR rg.current_member_count < rg.max_member_count)
-          AND (6371000 * acos(
-                cos(radians(:lat)) * cos(radians(sl.latitude)) *
-                cos(radians(sl.longitude) - radians(:lng)) +
-                sin(radians(:lat)) * sin(radians(sl.latitude))
-            )) <= :radius
           AND NOT EXISTS (
-            SELECT 1 FROM group_members gm 
+            SELECT 1 FROM group_member gm
             WHERE gm.group_id = rg.group_id AND gm.user_id = :userId
           )
+        HAVING distanceM <= :radius
         ORDER BY distanceM ASC
         LIMIT :limit
         """, nativeQuery = true)
@@ -43,6 +52,10 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             @Param("lat") double lat,
             @Param("lng") double lng,
             @Param("radius") double radiusMeters,
+            @Param("minLat") double minLat,
+            @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng,
+            @Param("maxLng") double maxLng,
             @Param("userId") Long userId,
             @Param("limit") int limit
     );
@@ -102,6 +115,179 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             @Param("destMaxLng") double destMaxLng
     );
 
+    /**
+     * 📝 박스 추천 후보 조회 (셀 인덱스 사용, 슬림 프로젝션)
+     * - (status, start_cell, departure_time) 인덱스로 출발 셀 범위만 읽고, 도착 셀/정확한 박스는 조인 후 확인
+     * - 상태/출발 시간/정원/참여 여부를 SQL에서 거르고 limit건만 반환 (엔티티 로딩 없음)
+     * - userId가 null이면 참여 여부로 거르지 않음
+     */
+    @Query("""
+        SELECT new com.unithon.tadadak.post.repository.BoxCandidateRow(
+            p.postId, sl.latitude, sl.longitude, el.latitude, el.longitude, p.estimatedPrice,
+            g.groupId, g.currentMemberCount, h.trustScore)
+        FROM Post p
+        JOIN p.startLocation sl
+        JOIN p.endLocation el
+        JOIN p.host h
+        LEFT JOIN p.groups g
+        WHERE p.status = 'OPEN'
+          AND p.startCell IN :startCells
+          AND p.endCell IN :endCells
+          AND (:includePast = true OR p.departureTime > :now)
+          AND (g.groupId IS NULL OR g.currentMemberCount < g.maxMemberCount)
+          AND (:userId IS NULL OR NOT EXISTS (
+            SELECT 1 FROM GroupMember gm
+            WHERE gm.group.groupId = g.groupId AND gm.user.userId = :userId
+          ))
+          AND sl.latitude  BETWEEN :depMinLat AND :depMaxLat
+          AND sl.longitude BETWEEN :depMinLng AND :depMaxLng
+          AND el.latitude  BETWEEN :destMinLat AND :destMaxLat
+          AND el.longitude BETWEEN :destMinLng AND :destMaxLng
+        ORDER BY p.departureTime ASC
+        """)
+    List<BoxCandidateRow> findBoxCandidatesInCells(
+            @Param("startCells") List<Long> startCells,
+            @Param("endCells") List<Long> endCells,
+            @Param("depMinLat")  double depMinLat,
+            @Param("depMaxLat")  double depMaxLat,
+            @Param("depMinLng")  double depMinLng,
+            @Param("depMaxLng")  double depMaxLng,
+            @Param("destMinLat") double destMinLat,
+            @Param("destMaxLat") double destMaxLat,
+            @Param("destMinLng") double destMinLng,
+            @Param("destMaxLng") double destMaxLng,
+            @Param("includePast") boolean includePast,
+            @Param("now") LocalDateTime now,
+            @Param("userId") Long userId,
+            Limit limit
+    );
+
+    /**
+     * 📝 박스 추천 후보 조회 (위경도 박스, 셀 범위가 너무 넓을 때)
+     */
+    @Query("""
+        SELECT new com.unithon.tadadak.post.repository.BoxCandidateRow(
+            p.postId, sl.latitude, sl.longitude, el.latitude, el.longitude, p.estimatedPrice,
+            g.groupId, g.currentMemberCount, h.trustScore)
+        FROM Post p
+        JOIN p.startLocation sl
+        JOIN p.endLocation el
+        JOIN p.host h
+        LEFT JOIN p.groups g
+        WHERE p.status = 'OPEN'
+          AND (:includePast = true OR p.departureTime > :now)
+          AND (g.groupId IS NULL OR g.currentMemberCount < g.maxMemberCount)
+          AND (:userId IS NULL OR NOT EXISTS (
+            SELECT 1 FROM GroupMember gm
+            WHERE gm.group.groupId = g.groupId AND gm.user.userId = :userId
+          ))
+          AND sl.latitude  BETWEEN :depMinLat AND :depMaxLat
+          AND sl.longitude BETWEEN :depMinLng AND :depMaxLng
+          AND el.latitude  BETWEEN :destMinLat AND :destMaxLat
+          AND el.longitude BETWEEN :destMinLng AND :destMaxLng
+        ORDER BY p.departureTime ASC
+        """)
+    List<BoxCandidateRow> findBoxCandidates(
+            @Param("depMinLat")  double depMinLat,
+            @Param("depMaxLat")  double depMaxLat,
+            @Param("depMinLng")  double depMinLng,
+            @Param("depMaxLng")  double depMaxLng,
+            @Param("destMinLat") double destMinLat,
+            @Param("destMaxLat") double destMaxLat,
+            @Param("destMinLng") double destMinLng,
+            @Param("destMaxLng") double destMaxLng,
+            @Param("includePast") boolean includePast,
+            @Param("now") LocalDateTime now,
+            @Param("userId") Long userId,
+            Limit limit
+    );
+
+    /**
+     * 📝 박스 추천 후보 조회 (공간 인덱스가 고른 ID 대상, 최신 상태/정원/참여 여부 재확인)
+     */
+    @Query("""
+        SELECT new com.unithon.tadadak.post.repository.BoxCandidateRow(
+            p.postId, sl.latitude, sl.longitude, el.latitude, el.longitude, p.estimatedPrice,
+            g.groupId, g.currentMemberCount, h.trustScore)
+        FROM Post p
+        JOIN p.startLocation sl
+        JOIN p.endLocation el
+        JOIN p.host h
+        LEFT JOIN p.groups g
+        WHERE p.postId IN :ids
+          AND p.status = 'OPEN'
+          AND (:includePast = true OR p.departureTime > :now)
+          AND (g.groupId IS NULL OR g.currentMemberCount < g.maxMemberCount)
+          AND (:userId IS NULL OR NOT EXISTS (
+            SELECT 1 FROM GroupMember gm
+            WHERE gm.group.groupId = g.groupId AND gm.user.userId = :userId
+          ))
+        ORDER BY p.departureTime ASC
+        """)
+    List<BoxCandidateRow> findBoxCandidatesByIds(
+            @Param("ids") List<Long> ids,
+            @Param("includePast") boolean includePast,
+            @Param("now") LocalDateTime now,
+            @Param("userId") Long userId,
+            Limit limit
+    );
+
+    /**
+     * 📝 공간 인덱스 적재용: OPEN Post의 좌표/출발시간/인원 요약
+     */
+    @Query("""
+        SELECT new com.unithon.tadadak.post.index.IndexedPost(
+            p.postId, sl.latitude, sl.longitude, el.latitude, el.longitude, p.departureTime,
+            g.currentMemberCount, g.maxMemberCount)
+        FROM Post p
+        JOIN p.startLocation sl
+        JOIN p.endLocation el
+        LEFT JOIN p.groups g
+        WHERE p.status = 'OPEN'
+        """)
+    List<IndexedPost> findOpenPostsForIndex();
+
+    /**
+     * 📝 만료 대상 OPEN Post ID 조회 (status, departure_time 인덱스 사용, 한 번에 limit개씩)
+     */
+    @Query("""
+        SELECT p.postId
+        FROM Post p
+        WHERE p.status = 'OPEN'
+          AND p.departureTime < :now
+        ORDER BY p.departureTime ASC
+        """)
+    List<Long> findExpiredOpenPostIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 📝 주어진 ID 중 출발 시간이 지난 OPEN Post ID (만료 스케줄러에서 재확인용)
+     */
+    @Query("""
+        SELECT p.postId
+        FROM Post p
+        WHERE p.postId IN :ids
+          AND p.status = 'OPEN'
+          AND p.departureTime <= :now
+        """)
+    List<Long> findDepartedOpenPostIds(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 📝 만료 스케줄러 재구성용: OPEN Post의 출발 시간
+     */
+    @Query("""
+        SELECT new com.unithon.tadadak.post.expiry.PostDeparture(p.postId, p.departureTime)
+        FROM Post p
+        WHERE p.status = 'OPEN'
+        """)
+    List<PostDeparture> findOpenPostDepartures();
+
+    /**
+     * 📝 OPEN Post 일괄 만료 처리 (그 사이 상태가 바뀐 Post는 건너뜀)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Post p SET p.status = 'EXPIRED' WHERE p.postId IN :ids AND p.status = 'OPEN'")
+    int expireOpenPosts(@Param("ids") List<Long> ids);
+
     /**
      * 📝 활성화된 Post들 조회 (정원 미달만)
      */
@@ -0,0 +1,171 @@
+package com.unithon.tadadak.post.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unithon.tadadak.global.exception.CustomException;
+import com.unithon.tadadak.global.exception.ErrorCode;
+import com.unithon.tadadak.post.domain.Post;
+import com.unithon.tadadak.post.dto.BulkPostRequestItem;
+import com.unithon.tadadak.post.dto.BulkPostResponse;
+import com.unithon.tadadak.post.dto.BulkPostResult;
+import com.unithon.tadadak.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 📝 Post 대량 생성
+ * - 요청 본문(JSON 배열)을 한 건씩 스트리밍 파싱 (전체 배열을 메모리에 올리지 않음)
+ * - 검증을 통과한 항목을 chunkSize개씩 모아 PostService.createPostsChunk로 저장 (청크당 트랜잭션 1개, JDBC 배치 INSERT)
+ * - 항목별 결과 반환: 검증 실패(객체가 아닌 원소 포함)는 해당 항목만, 저장 실패는 해당 청크 전체가 실패로 기록
+ */
+@Slf4j
+@Service
+public class PostBulkImporter {
+
+    private final PostService postService;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public PostBulkImporter(PostService postService,
+                            UserRepository userRepository,
+                            ObjectMapper objectMapper,
+                            @Value("${post.bulk.chunk-size:500}") int chunkSize,
+                            @Value("${post.bulk.max-items:10000}") int maxItems) {
+        this.postService = postService;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    public BulkPostResponse importPosts(Long hostId, InputStream body) throws IOException {
+        if (!userRepository.existsById(hostId)) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        List<BulkPostResult> results = new ArrayList<>();
+        List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+        List<BulkPostRequestItem> chunk = new ArrayList<>(chunkSize);
+        String error = null;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+
+            int index = 0;
+            LocalDateTime now = LocalDateTime.now();
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == null) {
+                    error = "요청 본문이 배열 중간에 끝났습니다.";
+                    break;
+                }
+                if (index >= maxItems) {
+                    error = "최대 " + maxItems + "건까지만 처리합니다.";
+                    break;
+                }
+                BulkPostRequestItem item = readItem(parser, token);
+                String invalid = item == null ? "항목 형식이 올바르지 않습니다." : validate(item, now);
+                if (invalid != null) {
+                    results.add(BulkPostResult.failed(index, invalid));
+                } else {
+                    chunkIndexes.add(index);
+                    chunk.add(item);
+                    if (chunk.size() == chunkSize) saveChunk(hostId, chunkIndexes, chunk, results);
+                }
+                index++;
+            }
+        } catch (JsonProcessingException e) {
+            // 이미 읽은 항목은 저장하고, 나머지는 처리하지 않음
+            error = "요청 본문 파싱 실패: " + e.getOriginalMessage();
+        }
+        saveChunk(hostId, chunkIndexes, chunk, results);
+
+        results.sort(Comparator.comparingInt(BulkPostResult::getIndex));
+        int created = (int) results.stream().filter(BulkPostResult::isCreated).count();
+        log.info("Bulk post import by host {}: {} created, {} failed", hostId, created, results.size() - created);
+
+        return BulkPostResponse.builder()
+                .createdCount(created)
+                .failedCount(results.size() - created)
+                .results(results)
+                .error(error)
+                .build();
+    }
+
+    private void saveChunk(Long hostId, List<Integer> indexes, List<BulkPostRequestItem> items,
+                           List<BulkPostResult> results) {
+        if (items.isEmpty()) return;
+        try {
+            List<Post> posts = postService.createPostsChunk(hostId, items);
+            for (int i = 0; i < posts.size(); i++) {
+                Post post = posts.get(i);
+                results.add(BulkPostResult.created(indexes.get(i), post.getPostId(),
+                        post.getGroups().get(0).getGroupId()));
+            }
+        } catch (RuntimeException e) {
+            log.error("Bulk post chunk of {} failed: {}", items.size(), e.getMessage(), e);
+            indexes.forEach(index -> results.add(BulkPostResult.failed(index, "저장 실패")));
+        } finally {
+            indexes.clear();
+            items.clear();
+        }
+    }
+
+    /**
+     * 배열 원소 하나를 읽음 (객체가 아니거나 필드 타입이 맞지 않으면 null, 원소는 끝까지 소비)
+     * - JSON 문법 오류만 JsonProcessingException으로 전체 중단
+     */
+    private BulkPostRequestItem readItem(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        JsonNode node = objectMapper.readTree(parser);
+        try {
+            return objectMapper.treeToValue(node, BulkPostRequestItem.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return 검증 실패 사유 (정상이면 null)
+     */
+    private String validate(BulkPostRequestItem item, LocalDateTime now) {
+        if (item.getStartLatitude() == null || item.getStartLongitude() == null
+                || item.getEndLatitude() == null || item.getEndLongitude() == null) {
+            return "출발/도착 좌표가 필요합니다.";
+        }
+        if (Math.abs(item.getStartLatitude()) > 90 || Math.abs(item.getEndLatitude()) > 90
+                || Math.abs(item.getStartLongitude()) > 180 || Math.abs(item.getEndLongitude()) > 180) {
+            return "좌표 범위가 올바르지 않습니다.";
+        }
+        if (item.getDesiredMembers() == null || item.getDesiredMembers() < 1) {
+            return "모집 인원은 1명 이상이어야 합니다.";
+        }
+        if (item.getEstimatedPrice() != null && item.getEstimatedPrice() < 0) {
+            return "금액은 0 이상이어야 합니다.";
+        }
+        if (item.getDepartureTime() == null) {
+            return "출발 시간이 필요합니다.";
+        }
+        if (!item.getDepartureTime().isAfter(now)) {
+            return "출발 시간은 현재 이후여야 합니다.";
+        }
+        return null;
+    }
+}
@@ -1,12 +1,17 @@
 package com.unithon.tadadak.post.service;
 
+import com.unithon.tadadak.global.outbox.OutboxAppender;
 import com.unithon.tadadak.location.domain.Location;
 import com.unithon.tadadak.location.repository.LocationRepository;
 import com.unithon.tadadak.location.service.LocationService;
 import com.unithon.tadadak.post.domain.Post;
+import com.unithon.tadadak.post.domain.PostPricing;
+import com.unithon.tadadak.post.dto.BulkPostRequestItem;
 import com.unithon.tadadak.post.dto.DualBoundingBoxRequestDto;
 import com.unithon.tadadak.post.dto.PostRequestDto;
 import com.unithon.tadadak.post.dto.PostResponseDto;
+import com.unithon.tadadak.post.event.PostCreatedEvent;
+import com.unithon.tadadak.post.event.PostExpiredEvent;
 import com.unithon.tadadak.post.repository.PostRepository;
 import com.unithon.tadadak.user.repository.UserRepository;
 import com.unithon.tadadak.user.domain.User;
@@ -15,13 +20,14 @@ import com.unithon.tadadak.groups.repository.GroupsRepository;
 import com.unithon.tadadak.groupmember.domain.GroupMember;
 import com.unithon.tadadak.groupmember.domain.PaymentStatus;
 import com.unithon.tadadak.groupmember.repository.GroupMemberRepository;
-import com.unithon.tadadak.chatroom.service.ChatRoomService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -37,7 +43,7 @@ public class PostService {
     private final LocationService locationService;
     private final GroupsRepository groupsRepository;
     private final GroupMemberRepository groupMemberRepository;
-    private final ChatRoomService chatRoomService;
+    private final OutboxAppender outboxAppender;
 
     @Transactional
     public Post createPost(PostRequestDto dto) {
@@ -52,7 +58,6 @@ public class PostService {
                         .endLocation(locationRepository.findById(dto.getEndLocationId()).orElseThrow())
                         .desiredMembers(dto.getDesiredMembers())
                         .estimatedPrice(dto.getEstimatedPrice())
-                        .estimatePricePerMember(dto.getEstimatedPrice())
                         .departureTime(dto.getDepartureTime())
                         .EndAddress(dto.getEndAddress())
                         .StartAddress(dto.getStartAddress())
@@ -84,14 +89,8 @@ public class PostService {
         
         // 4) Post 엔티티에 생성된 group 추가 (JPA 연관관계 동기화)
         post.getGroups().add(group);
-        
-        // 5) Firestore 채팅방 생성 (비동기적으로 처리)
-        try {
-            chatRoomService.createRoomForPost(post.getPostId(), host.getUserId());
-        } catch (Exception e) {
-            log.error("채팅방 생성 실패 (Post {}): {}", post.getPostId(), e.getMessage());
-            // 채팅방 생성 실패해도 Post 생성은 성공으로 처리
-        }
+        // 5) Firestore 채팅방 생성은 아웃박스에 기록, 커밋 후 릴레이가 전달 (트랜잭션에서 Firestore를 기다리지 않음)
+        publishCreated(post, group, host);
         
         log.info("Post {} 생성 완료 → Groups {} 생성 → Host {} 자동 참여 → 채팅방 생성", 
                 post.getPostId(), group.getGroupId(), host.getUserId());
@@ -143,12 +142,9 @@ public class PostService {
                 .map(post -> {
                     PostResponseDto dto = PostResponseDto.fromEntity(post); // 기본 변환
                     if (includeHostInEstimate) {
-                        Integer estimated = dto.getEstimatedPrice();
                         Integer current = dto.getCurrentMembers();
-                        int safeCurrent = (current != null ? current : 0);
-                        int divisor = safeCurrent + 1; // host 포함
-                        int perMember = (estimated != null && divisor > 0) ? (estimated / divisor) : 0;
-                        dto.setEstimatePricePerMember(perMember);
+                        dto.setEstimatePricePerMember(PostPricing.perMemberIfJoined(
+                                dto.getEstimatedPrice(), current != null ? current : 0));
                     }
                     return dto;
                 })
@@ -188,6 +184,7 @@ public class PostService {
         User host = userRepository.findById(request.getHostId())
                 .orElseThrow(() -> new IllegalArgumentException("Host user not found"));
         
+        // 📝 Location/Post/Groups는 풀링 ID라 save 시점에 INSERT하지 않고 커밋 시 JDBC 배치로 한꺼번에 전송
         // 2) 먼저 Location들을 생성 (postId 없이)
         Location startLocation = locationRepository.save(Location.builder()
                 .latitude(request.getStartLatitude())
@@ -219,8 +216,9 @@ public class PostService {
                         .build()
         );
         
-        // 4) Location들의 postId는 업데이트하지 않음 
-        // (Post가 이미 start_location_id, end_location_id로 참조하고 있음)
+        // 4) Location들의 postId 기록 (풀링 ID라 save 직후 Post ID가 있음, 커밋 시 배치 UPDATE)
+        startLocation.setPostId(post.getPostId());
+        endLocation.setPostId(post.getPostId());
         
         // 6) Groups 자동 생성
         Groups group = groupsRepository.save(
@@ -244,14 +242,8 @@ public class PostService {
         
         // 8) Post 엔티티에 생성된 group 추가 (JPA 연관관계 동기화)
         post.getGroups().add(group);
-        
-        // 9) Firestore 채팅방 생성 (비동기적으로 처리)
-        try {
-            chatRoomService.createRoomForPost(post.getPostId(), host.getUserId());
-        } catch (Exception e) {
-            log.error("채팅방 생성 실패 (Post {}): {}", post.getPostId(), e.getMessage());
-            // 채팅방 생성 실패해도 Post 생성은 성공으로 처리
-        }
+        // 9) Firestore 채팅방 생성은 아웃박스에 기록, 커밋 후 릴레이가 전달 (트랜잭션에서 Firestore를 기다리지 않음)
+        publishCreated(post, group, host);
         
         log.info("Created post {} with new locations (start: {}, end: {}) → Groups {} → Host {} auto-joined → 채팅방 생성", 
                 post.getPostId(), startLocation.getLocationId(), endLocation.getLocationId(),
@@ -260,6 +252,128 @@ public class PostService {
         return PostResponseDto.fromEntity(post);
     }
 
+    /**
+     * 📝 대량 생성용: 검증된 항목들을 한 트랜잭션에서 Location/Post/Groups/호스트 GroupMember로 저장
+     * - 풀링 ID라 INSERT는 커밋 시 테이블별 JDBC 배치로 전송
+     * @return 항목 순서대로 생성된 Post (groups에 생성된 그룹 포함)
+     */
+    @Transactional
+    public List<Post> createPostsChunk(Long hostId, List<BulkPostRequestItem> items) {
+        User host = userRepository.getReferenceById(hostId);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Location> locations = new ArrayList<>(items.size() * 2);
+        List<Post> posts = new ArrayList<>(items.size());
+        List<Groups> groups = new ArrayList<>(items.size());
+        List<GroupMember> members = new ArrayList<>(items.size());
+
+        for (BulkPostRequestItem item : items) {
+            Location start = Location.builder()
+                    .latitude(item.getStartLatitude())
+                    .longitude(item.getStartLongitude())
+                    .createdAt(now)
+                    .build();
+            Location end = Location.builder()
+                    .latitude(item.getEndLatitude())
+                    .longitude(item.getEndLongitude())
+                    .createdAt(now)
+                    .build();
+            Post post = Post.builder()
+                    .host(host)
+                    .startLocation(start)
+                    .endLocation(end)
+                    .desiredMembers(item.getDesiredMembers())
+                    .estimatedPrice(item.getEstimatedPrice())
+                    .departureTime(item.getDepartureTime())
+                    .StartAddress(item.getStartAddress())
+                    .EndAddress(item.getEndAddress())
+                    .duration(item.getDuration())
+                    .status("OPEN")
+                    .createdAt(now)
+                    .build();
+            Groups group = Groups.builder()
+                    .post(post)
+                    .maxMemberCount(item.getDesiredMembers())
+                    .currentMemberCount(1)  // 호스트가 첫 번째 멤버
+                    .status("WAITING")
+                    .build();
+            post.getGroups().add(group);
+
+            locations.add(start);
+            locations.add(end);
+            posts.add(post);
+            groups.add(group);
+            members.add(GroupMember.builder()
+                    .group(group)
+                    .user(host)
+                    .isHost(true)
+                    .paymentStatus(PaymentStatus.WAIT)
+                    .build());
+        }
+
+        locationRepository.saveAll(locations);
+        postRepository.saveAll(posts);
+        // 단건 생성과 동일하게 Location.postId 기록 (풀링 ID라 saveAll 직후 Post ID가 있음, 커밋 시 배치 UPDATE)
+        for (Post post : posts) {
+            post.getStartLocation().setPostId(post.getPostId());
+            post.getEndLocation().setPostId(post.getPostId());
+        }
+        groupsRepository.saveAll(groups);
+        groupMemberRepository.saveAll(members);
+
+        for (int i = 0; i < posts.size(); i++) {
+            publishCreated(posts.get(i), groups.get(i), host);
+        }
+        return posts;
+    }
+
+    /**
+     * 📝 출발 시간이 지난 OPEN Post를 최대 chunkSize개 만료 처리
+     * - ID만 조회한 뒤 벌크 UPDATE 1회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+     * - 같은 트랜잭션에서 PostExpiredEvent를 아웃박스에 기록 (릴레이가 인덱스/캐시/채팅방에 전달)
+     * @return 만료 처리한 Post 수 (chunkSize보다 작으면 남은 대상 없음)
+     */
+    @Transactional
+    public int expireDepartedPosts(LocalDateTime now, int chunkSize) {
+        List<Long> ids = postRepository.findExpiredOpenPostIds(now, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) return 0;
+
+        postRepository.expireOpenPosts(ids);
+        outboxAppender.append(new PostExpiredEvent(ids));
+        return ids.size();
+    }
+
+    /**
+     * 📝 지정한 Post 중 출발 시간이 지난 OPEN Post만 만료 처리 (출발 시각 기반 스케줄러용)
+     * @return 만료 처리한 Post 수
+     */
+    @Transactional
+    public int expirePosts(List<Long> postIds, LocalDateTime now) {
+        List<Long> ids = postRepository.findDepartedOpenPostIds(postIds, now);
+        if (ids.isEmpty()) return 0;
+
+        postRepository.expireOpenPosts(ids);
+        outboxAppender.append(new PostExpiredEvent(ids));
+        return ids.size();
+    }
+
+    /**
+     * 📝 Post 생성 이벤트를 아웃박스에 기록 (커밋 후 릴레이를 통해 공간 인덱스 등에서 수신)
+     */
+    private void publishCreated(Post post, Groups group, User host) {
+        outboxAppender.append(new PostCreatedEvent(
+                post.getPostId(),
+                host.getUserId(),
+                post.getStartLocation().getLatitude(),
+                post.getStartLocation().getLongitude(),
+                post.getEndLocation().getLatitude(),
+                post.getEndLocation().getLongitude(),
+                post.getDepartureTime(),
+                group.getCurrentMemberCount(),
+                group.getMaxMemberCount()
+        ));
+    }
+
     // 📝 새로운 요청 DTO 추가
     @lombok.Builder
     @lombok.Getter
@@ -0,0 +1,211 @@
+package com.unithon.tadadak.recommend.cache;
+
+import com.unithon.tadadak.groupmember.event.GroupMemberCountChangedEvent;
+import com.unithon.tadadak.post.dto.BoundingBoxRequestDto;
+import com.unithon.tadadak.post.dto.DualBoundingBoxRequestDto;
+import com.unithon.tadadak.post.event.PostCreatedEvent;
+import com.unithon.tadadak.post.event.PostExpiredEvent;
+import com.unithon.tadadak.post.index.OpenPostSpatialIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.context.event.EventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 📝 박스 추천 결과 캐시 (짧은 TTL + LRU)
+ * - 키: 격자에 맞춘(snap) 출발/도착 박스, topN, include 플래그, 사용자 가중치
+ * - includeJoined=false면 참여 이력에 따라 결과가 달라지므로 userId도 키에 포함
+ * - 박스 안의 Post가 생성/만료/인원 변경되면 해당 항목 무효화
+ */
+@Slf4j
+@Component
+public class RecommendResultCache {
+
+    private final OpenPostSpatialIndex openPostSpatialIndex;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final double snapDegrees;
+
+    private final LinkedHashMap<Key, Entry> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+
+    public RecommendResultCache(OpenPostSpatialIndex openPostSpatialIndex,
+                                MeterRegistry meterRegistry,
+                                @Value("${recommend.cache.ttl-ms:30000}") long ttlMillis,
+                                @Value("${recommend.cache.max-size:1000}") int maxSize,
+                                @Value("${recommend.cache.snap-degrees:0.001}") double snapDegrees) {
+        this.openPostSpatialIndex = openPostSpatialIndex;
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+        this.snapDegrees = snapDegrees;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > RecommendResultCache.this.maxSize;
+            }
+        };
+
+        this.hits = Counter.builder("recommend.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("recommend.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.invalidations = Counter.builder("recommend.cache.invalidations").register(meterRegistry);
+        Gauge.builder("recommend.cache.size", this, RecommendResultCache::size).register(meterRegistry);
+    }
+
+    /**
+     * 박스를 snap 격자 바깥쪽으로 맞춤 (원래 박스를 항상 포함)
+     */
+    public DualBoundingBoxRequestDto snap(DualBoundingBoxRequestDto boxes) {
+        DualBoundingBoxRequestDto snapped = new DualBoundingBoxRequestDto();
+        snapped.setDepartureBox(snap(boxes.getDepartureBox()));
+        snapped.setDestinationBox(snap(boxes.getDestinationBox()));
+        return snapped;
+    }
+
+    public Key keyOf(Long userId, DualBoundingBoxRequestDto snapped, int topN,
+                     boolean includeJoined, boolean includePast,
+                     double moneyWeight, double distanceWeight, double trustWeight) {
+        var dep = snapped.getDepartureBox();
+        var dest = snapped.getDestinationBox();
+        return new Key(
+                includeJoined ? null : userId,
+                cell(dep.getMinLat()), cell(dep.getMaxLat()), cell(dep.getMinLng()), cell(dep.getMaxLng()),
+                cell(dest.getMinLat()), cell(dest.getMaxLat()), cell(dest.getMinLng()), cell(dest.getMaxLng()),
+                topN, includeJoined, includePast,
+                moneyWeight, distanceWeight, trustWeight);
+    }
+
+    /**
+     * 결과 계산 전에 받아두고 put 시 넘겨서, 그 사이 무효화가 있었으면 저장하지 않음
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public List<Long> get(Key key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt() > System.currentTimeMillis()) {
+                hits.increment();
+                return entry.postIds();
+            }
+            if (entry != null) entries.remove(key);
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(Key key, DualBoundingBoxRequestDto snapped, List<Long> postIds, long observedGeneration) {
+        synchronized (entries) {
+            if (generation.get() != observedGeneration) return;
+            entries.put(key, new Entry(List.copyOf(postIds),
+                    snapped.getDepartureBox(), snapped.getDestinationBox(),
+                    System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @EventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        if (event.startLat() == null || event.startLng() == null
+                || event.endLat() == null || event.endLng() == null) {
+            return;
+        }
+        invalidate(event.postId(), event.startLat(), event.startLng(), event.endLat(), event.endLng());
+    }
+
+    @EventListener
+    public void onPostsExpired(PostExpiredEvent event) {
+        event.postIds().forEach(this::invalidate);
+    }
+
+    @EventListener
+    public void onGroupMemberCountChanged(GroupMemberCountChangedEvent event) {
+        invalidate(event.postId());
+    }
+
+    private void invalidate(Long postId) {
+        openPostSpatialIndex.get(postId).ifPresentOrElse(
+                p -> invalidate(postId, p.startLat(), p.startLng(), p.endLat(), p.endLng()),
+                () -> invalidateWhere(entry -> entry.postIds().contains(postId)));
+    }
+
+    private void invalidate(Long postId, double startLat, double startLng, double endLat, double endLng) {
+        invalidateWhere(entry -> entry.postIds().contains(postId)
+                || (contains(entry.departureBox(), startLat, startLng)
+                    && contains(entry.destinationBox(), endLat, endLng)));
+    }
+
+    private void invalidateWhere(Predicate<Entry> affected) {
+        int removed = 0;
+        synchronized (entries) {
+            generation.incrementAndGet();
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext()) {
+                if (affected.test(it.next())) {
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            invalidations.increment(removed);
+            log.debug("Recommend cache: {} entries invalidated", removed);
+        }
+    }
+
+    private BoundingBoxRequestDto snap(BoundingBoxRequestDto box) {
+        BoundingBoxRequestDto snapped = new BoundingBoxRequestDto();
+        snapped.setMinLat(Math.floor(box.getMinLat() / snapDegrees) * snapDegrees);
+        snapped.setMaxLat(Math.ceil(box.getMaxLat() / snapDegrees) * snapDegrees);
+        snapped.setMinLng(Math.floor(box.getMinLng() / snapDegrees) * snapDegrees);
+        snapped.setMaxLng(Math.ceil(box.getMaxLng() / snapDegrees) * snapDegrees);
+        return snapped;
+    }
+
+    private long cell(double degrees) {
+        return Math.round(degrees / snapDegrees);
+    }
+
+    private static boolean contains(BoundingBoxRequestDto box, double lat, double lng) {
+        return lat >= box.getMinLat() && lat <= box.getMaxLat()
+                && lng >= box.getMinLng() && lng <= box.getMaxLng();
+    }
+
+    public record Key(
+            Long userId,
+            long depMinLat, long depMaxLat, long depMinLng, long depMaxLng,
+            long destMinLat, long destMaxLat, long destMinLng, long destMaxLng,
+            int topN,
+            boolean includeJoined,
+            boolean includePast,
+            double moneyWeight,
+            double distanceWeight,
+            double trustWeight
+    ) { }
+
+    private record Entry(
+            List<Long> postIds,
+            BoundingBoxRequestDto departureBox,
+            BoundingBoxRequestDto destinationBox,
+            long expiresAt
+    ) { }
+}
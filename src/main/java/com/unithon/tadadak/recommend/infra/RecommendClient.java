@@ -2,30 +2,157 @@ package com.unithon.tadadak.recommend.infra;
 
 import com.unithon.tadadak.recommend.dto.RecommendRequest;
 import com.unithon.tadadak.recommend.dto.RecommendResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-
-
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class RecommendClient {
 
     private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final int failureThreshold;
+    private final long openMillis;
+    // 📝 벌크헤드: 동시 원격 호출 수(maxConcurrency)와 대기열 크기를 제한, 초과분은 즉시 거절
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+
+    // 📝 간단한 서킷 브레이커: 연속 실패가 임계치를 넘으면 openMillis 동안 원격 호출 생략
+    // - open 시간이 지나면 반열림: 시험 호출 한 건만 보내고, 성공하면 닫고 실패하면 다시 open
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probing = new AtomicBoolean();
+    private volatile long circuitOpenUntil = 0L; // 0이면 닫힘
+
+    public RecommendClient(@Qualifier("recommendRestTemplate") RestTemplate restTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${ai.recommender.base-url}") String baseUrl,
+                           @Value("${ai.recommender.circuit.failure-threshold:5}") int failureThreshold,
+                           @Value("${ai.recommender.circuit.open-ms:30000}") long openMillis,
+                           @Value("${ai.recommender.max-concurrency:16}") int maxConcurrency,
+                           @Value("${ai.recommender.queue-capacity:64}") int queueCapacity) {
+        this.restTemplate = restTemplate;
+        this.baseUrl = baseUrl;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.executor = new ThreadPoolExecutor(
+                maxConcurrency, maxConcurrency, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "recommend-client");
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.rejected = Counter.builder("recommend.client.rejected").register(meterRegistry);
+        Gauge.builder("recommend.client.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        Gauge.builder("recommend.client.queued", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("recommend.client.circuit.open", this, c -> c.isCircuitOpen() ? 1 : 0)
+                .register(meterRegistry);
+    }
 
-    @Value("${ai.recommender.base-url}")
-    private String baseUrl;
+    /**
+     * 📝 전용 스레드풀에서 원격 랭킹 호출 (호출 측에서 시간 예산만큼만 대기)
+     * - 서킷이 열려 있거나(반열림이면 시험 호출 외) 대기열이 가득 차면 즉시 실패한 future 반환
+     * - 성공/실패(시간 초과·취소 포함)는 반환한 future가 완료될 때 한 번만 서킷에 반영
+     * - future가 예외로 끝나면(orTimeout, cancel 등) 대기 중인 작업은 대기열에서 빼고 실행 중이면 인터럽트
+     */
+    public CompletableFuture<List<Long>> rankAsync(RecommendRequest req) {
+        boolean probe;
+        if (circuitOpenUntil == 0L) {
+            probe = false;
+        } else if (!isCircuitOpen() && probing.compareAndSet(false, true)) {
+            probe = true;
+        } else {
+            return CompletableFuture.failedFuture(new IllegalStateException("Recommender circuit is open"));
+        }
+        CompletableFuture<List<Long>> result = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                result.complete(call(req));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+            return null;
+        });
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            if (probe) probing.set(false);
+            return CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((ranked, error) -> {
+            if (error == null) {
+                recordSuccess(probe);
+                return;
+            }
+            recordFailure(probe);
+            if (!task.isDone()) {
+                executor.remove(task);
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
 
-    public List<Long> rank(RecommendRequest req) {
-        String url = baseUrl + "/recommend";
-        RecommendResponse resp = restTemplate.postForObject(url, req, RecommendResponse.class);
+    private List<Long> call(RecommendRequest req) {
+        RecommendResponse resp = restTemplate.postForObject(baseUrl + "/recommend", req, RecommendResponse.class);
         if (resp == null || resp.ranked_post_ids() == null) {
             return List.of();
         }
         return resp.ranked_post_ids();
     }
+
+    /**
+     * open 시간 안이면 true (반열림 상태는 false: rankAsync가 시험 호출 한 건만 허용)
+     */
+    public boolean isCircuitOpen() {
+        return System.currentTimeMillis() < circuitOpenUntil;
+    }
+
+    private void recordFailure(boolean probe) {
+        if (probe) {
+            circuitOpenUntil = System.currentTimeMillis() + openMillis;
+            probing.set(false);
+            log.warn("Recommender probe failed, circuit re-opened for {}ms", openMillis);
+        } else if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            circuitOpenUntil = System.currentTimeMillis() + openMillis;
+            consecutiveFailures.set(0);
+            log.warn("Recommender circuit opened for {}ms", openMillis);
+        }
+    }
+
+    private void recordSuccess(boolean probe) {
+        consecutiveFailures.set(0);
+        if (probe) {
+            circuitOpenUntil = 0L;
+            probing.set(false);
+            log.info("Recommender probe succeeded, circuit closed");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
 }
@@ -0,0 +1,68 @@
+package com.unithon.tadadak.recommend.service;
+
+import com.unithon.tadadak.recommend.dto.Candidate;
+import com.unithon.tadadak.recommend.dto.RecommendRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 📝 AI 추천 서버를 쓸 수 없을 때 사용하는 로컬 가중치 랭커
+ * - 가격/거리는 낮을수록, 신뢰도는 높을수록 좋은 값으로 보고 후보 집합 내에서 min-max 정규화
+ * - score = moneyWeight * (1 - price) + distanceWeight * (1 - distance) + trustWeight * trust
+ * - 상위 topN개는 TopKSelector로 선택 (후보 전체를 정렬하지 않음)
+ */
+@Component
+public class LocalRanker {
+
+    public List<Long> rank(RecommendRequest req) {
+        List<Candidate> candidates = req.candidates();
+        int n = candidates == null ? 0 : candidates.size();
+        int topN = Math.min(req.top_n(), n);
+        if (topN <= 0) return List.of();
+
+        double[] price = new double[n];
+        double[] distance = new double[n];
+        double[] trust = new double[n];
+        for (int i = 0; i < n; i++) {
+            Candidate c = candidates.get(i);
+            price[i] = c.price();
+            distance[i] = c.distance();
+            trust[i] = c.trust();
+        }
+        normalize(price);
+        normalize(distance);
+        normalize(trust);
+
+        // 전체 정렬 대신 점수를 계산하는 즉시 상위 topN개만 유지
+        TopKSelector top = new TopKSelector(topN);
+        for (int i = 0; i < n; i++) {
+            top.offer(i, req.money_weight() * (1.0 - price[i])
+                    + req.distance_weight() * (1.0 - distance[i])
+                    + req.trust_weight() * trust[i]);
+        }
+
+        List<Long> ranked = new ArrayList<>(topN);
+        for (int index : top.sortedIndices()) {
+            ranked.add(candidates.get(index).postId());
+        }
+        return ranked;
+    }
+
+    /**
+     * 값을 [0, 1] 범위로 정규화 (모두 같은 값이면 0)
+     */
+    private void normalize(double[] values) {
+        double min = Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+        for (double v : values) {
+            if (v < min) min = v;
+            if (v > max) max = v;
+        }
+        double range = max - min;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = range > 0 ? (values[i] - min) / range : 0.0;
+        }
+    }
+}
@@ -1,24 +1,44 @@
 package com.unithon.tadadak.recommend.service;
 
+import com.unithon.tadadak.global.geo.GeoCell;
+import com.unithon.tadadak.global.geo.GeoDistance;
 import com.unithon.tadadak.post.domain.Post;
+import com.unithon.tadadak.post.domain.PostPricing;
 import com.unithon.tadadak.post.dto.DualBoundingBoxRequestDto;
+import com.unithon.tadadak.post.index.OpenPostSpatialIndex;
+import com.unithon.tadadak.recommend.cache.RecommendResultCache;
 import com.unithon.tadadak.recommend.dto.Candidate;
 import com.unithon.tadadak.recommend.dto.RecommendRequest;
 import com.unithon.tadadak.recommend.infra.RecommendClient;
+import com.unithon.tadadak.post.repository.BoxCandidateRow;
 import com.unithon.tadadak.post.repository.NearbyPostRow;
 import com.unithon.tadadak.post.repository.PostRepository;
 import com.unithon.tadadak.user.domain.User;
 import com.unithon.tadadak.user.repository.UserRepository;
 import com.unithon.tadadak.groupmember.repository.GroupMemberRepository;
-import com.unithon.tadadak.groupmember.domain.GroupMember;
+import com.unithon.tadadak.groupmember.repository.PostTrustRow;
 import com.unithon.tadadak.groups.repository.GroupsRepository;
-import com.unithon.tadadak.groups.domain.Groups;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -30,66 +50,195 @@ public class RecommendService {
     private final UserRepository userRepository;
     private final GroupMemberRepository groupMemberRepository;
     private final GroupsRepository groupsRepository;
+    private final OpenPostSpatialIndex openPostSpatialIndex;
+    private final RecommendResultCache resultCache;
+    private final LocalRanker localRanker;
+    @Qualifier("recommendExecutor")
+    private final Executor recommendExecutor;
+
+    @Value("${ai.recommender.latency-budget-ms:800}")
+    private long latencyBudgetMillis;
+
+    // 셀 IN 조회로 처리할 박스당 최대 셀 수 (넘으면 위경도 박스 조회)
+    @Value("${recommend.query.max-cells:400}")
+    private int maxQueryCells;
+
+    // 박스 추천 후보 최대 건수 (출발 시간이 이른 순)
+    @Value("${recommend.query.candidate-limit:500}")
+    private int candidateLimit;
 
     // RecommendService.java
     public List<Long> recommendByBoxes(Long userId, DualBoundingBoxRequestDto boxes, int topN,
                                        boolean includeJoined, boolean includePast) {
         try {
             // 0) 유효성 & 유저
-            if (userId == null || userId <= 0) throw new IllegalArgumentException("Invalid userId");
-            var user = userRepository.findById(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
+            var user = loadUser(userId);
 
-            var dep = boxes.getDepartureBox();
-            var dest = boxes.getDestinationBox();
+            // 0-1) 박스를 격자에 맞춘 뒤 결과 캐시 조회 (지도 이동/줌마다 거의 같은 박스로 재요청됨)
+            var snapped = resultCache.snap(boxes);
+            var key = cacheKey(user, snapped, topN, includeJoined, includePast);
+            var cached = resultCache.get(key);
+            if (cached != null) return cached;
 
-            // 1) 교집합 후보 조회 (fetch join으로 N+1 방지되는 레포 메서드)
-            var posts = postRepository.findAllInIntersectionWithDetails(
-                    dep.getMinLat(), dep.getMaxLat(), dep.getMinLng(), dep.getMaxLng(),
-                    dest.getMinLat(), dest.getMaxLat(), dest.getMinLng(), dest.getMaxLng()
-            );
+            long generation = resultCache.generation();
+            var ranked = rankByBoxes(user, snapped, topN, includeJoined, includePast);
+            resultCache.put(key, snapped, ranked, generation);
+            return ranked;
 
-            // 2) 필터링 (옵션 적용)
-            var now = java.time.LocalDateTime.now();
-            var filtered = posts.stream()
-                    // 이미 참여한 그룹 포함 여부
-                    .filter(p -> includeJoined || !hasUserJoined(userId, p))
-                    // 상태 필터 (현재는 OPEN만 추천)
-                    .filter(p -> "OPEN".equals(p.getStatus()))
-                    // 과거 출발 포함 여부
-                    .filter(p -> includePast || (p.getDepartureTime() != null && p.getDepartureTime().isAfter(now)))
-                    .toList();
-            if (filtered.isEmpty()) return List.of();
+        } catch (Exception e) {
+            log.error("recommendByBoxes failed for user {}: {}", userId, e.getMessage(), e);
+            return List.of();
+        }
+    }
 
-            // 3) 박스 중심점(대표 좌표) 계산
-            double userDepLat  = (dep.getMinLat()  + dep.getMaxLat())  / 2.0;
-            double userDepLng  = (dep.getMinLng()  + dep.getMaxLng())  / 2.0;
-            double userDestLat = (dest.getMinLat() + dest.getMaxLat()) / 2.0;
-            double userDestLng = (dest.getMinLng() + dest.getMaxLng()) / 2.0;
+    /**
+     * 📝 박스 추천 비동기 버전 (요청 스레드를 붙잡지 않음)
+     * - 유저 조회 → 캐시 확인 → 후보/신뢰도 조회 → AI 요청 구성은 서로 결과에 의존하므로 전용 스레드풀에서 한 번에 순차 실행
+     * - AI 호출만 시간 예산 내에서 비동기로 대기 (대기 중 스레드를 점유하지 않음)
+     * - 스레드풀이 가득 차 작업이 거부되면 다른 실패와 같이 빈 결과로 응답
+     */
+    public CompletableFuture<List<Long>> recommendByBoxesAsync(Long userId, DualBoundingBoxRequestDto boxes, int topN,
+                                                               boolean includeJoined, boolean includePast) {
+        var snapped = resultCache.snap(boxes);
+        CompletableFuture<List<Long>> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                        var user = loadUser(userId);
+                        var key = cacheKey(user, snapped, topN, includeJoined, includePast);
+                        var cached = resultCache.get(key);
+                        if (cached != null) return CompletableFuture.completedFuture(cached);
 
-            // 4) Candidate 생성 (출발+도착 거리 평균, 그룹신뢰도 포함)
-            var candidates = filtered.stream()
-                    .map(p -> createCandidate(p, userDepLat, userDepLng, userDestLat, userDestLng))
-                    .toList();
+                        long generation = resultCache.generation();
+                        return rankByBoxesAsync(user, snapped, topN, includeJoined, includePast)
+                                .thenApply(ranked -> {
+                                    resultCache.put(key, snapped, ranked, generation);
+                                    return ranked;
+                                });
+                    }, recommendExecutor)
+                    .thenCompose(ranked -> ranked);
+        } catch (RejectedExecutionException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.exceptionally(e -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.error("recommendByBoxesAsync failed for user {}: {}", userId, cause.getMessage(), cause);
+            return List.of();
+        });
+    }
 
-            // 5) AI 요청 본문 구성 (사용자 가중치 null 안전 처리)
-            var req = new RecommendRequest(
-                    userId,
-                    nullToZero(user.getMoneyWeight()),
-                    nullToZero(user.getDistanceWeight()),
-                    nullToZero(user.getTrustWeight()),
-                    candidates,
-                    Math.min(topN, candidates.size())
-            );
+    /**
+     * 📝 박스 교집합 후보 조회 → 필터링 → AI 랭킹 (캐시 미스 시 실행)
+     */
+    private List<Long> rankByBoxes(User user, DualBoundingBoxRequestDto boxes, int topN,
+                                   boolean includeJoined, boolean includePast) {
+        var now = LocalDateTime.now();
 
-            // 6) AI 호출 → 정렬된 ID 반환 → 원본 후보에 존재하는 ID만 유지
-            var ranked = client.rank(req);
-            return validateRecommendations(ranked, candidates);
+        // 1) 교집합 후보 조회 (상태/출발 시간/정원/참여 여부는 쿼리에서 거름)
+        var rows = loadBoxCandidates(boxes, user.getUserId(), includeJoined, includePast, now);
+        if (rows.isEmpty()) return List.of();
 
-        } catch (Exception e) {
-            log.error("recommendByBoxes failed for user {}: {}", userId, e.getMessage(), e);
-            return List.of();
+        // 2) Candidate 생성 (그룹 멤버 평균 trust는 후보 전체에 대해 집계 쿼리 1회로 조회)
+        var req = buildRankRequest(user, boxes, rows, loadAverageTrust(rows), topN);
+
+        // 3) AI 호출 → 정렬된 ID 반환 → 원본 후보에 존재하는 ID만 유지
+        var ranked = rankWithFallback(req);
+        return validateRecommendations(ranked, req.candidates());
+    }
+
+    /**
+     * 📝 rankByBoxes의 비동기 버전 (호출 스레드에서 후보 조회/요청 구성 후 AI 응답만 비동기 대기)
+     */
+    private CompletableFuture<List<Long>> rankByBoxesAsync(User user, DualBoundingBoxRequestDto boxes, int topN,
+                                                           boolean includeJoined, boolean includePast) {
+        var rows = loadBoxCandidates(boxes, user.getUserId(), includeJoined, includePast, LocalDateTime.now());
+        if (rows.isEmpty()) return CompletableFuture.completedFuture(List.of());
+
+        var req = buildRankRequest(user, boxes, rows, loadAverageTrust(rows), topN);
+        // AI 응답은 recommend-client 스레드에서 완료되므로 후처리는 추천 스레드풀로 넘김
+        return rankWithFallbackAsync(req)
+                .thenApplyAsync(ranked -> validateRecommendations(ranked, req.candidates()), recommendExecutor);
+    }
+
+    private User loadUser(Long userId) {
+        if (userId == null || userId <= 0) throw new IllegalArgumentException("Invalid userId");
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
+    }
+
+    private RecommendResultCache.Key cacheKey(User user, DualBoundingBoxRequestDto snapped, int topN,
+                                              boolean includeJoined, boolean includePast) {
+        return resultCache.keyOf(user.getUserId(), snapped, topN, includeJoined, includePast,
+                nullToZero(user.getMoneyWeight()),
+                nullToZero(user.getDistanceWeight()),
+                nullToZero(user.getTrustWeight()));
+    }
+
+    /**
+     * 📝 출발지 박스 ∩ 도착지 박스 후보 조회 (슬림 프로젝션, 최대 candidateLimit건)
+     * - 인덱스 적재 완료: 인메모리 격자에서 ID만 뽑고 해당 Post의 최신 상태로 재확인
+     * - 적재 전: 박스가 걸치는 셀이 적당하면 셀 인덱스 조회, 너무 넓으면 위경도 박스 조회
+     * - 참여한 그룹 제외는 includeJoined=false일 때만 (쿼리에 userId 전달)
+     */
+    private List<BoxCandidateRow> loadBoxCandidates(DualBoundingBoxRequestDto boxes, Long userId,
+                                                    boolean includeJoined, boolean includePast, LocalDateTime now) {
+        var dep = boxes.getDepartureBox();
+        var dest = boxes.getDestinationBox();
+        Long excludeJoinedBy = includeJoined ? null : userId;
+        Limit limit = Limit.of(candidateLimit);
+
+        List<BoxCandidateRow> rows;
+        if (openPostSpatialIndex.isReady()) {
+            var ids = openPostSpatialIndex.findIntersecting(dep, dest, includePast, now);
+            if (ids.isEmpty()) return List.of();
+            rows = postRepository.findBoxCandidatesByIds(ids, includePast, now, excludeJoinedBy, limit);
+        } else if (GeoCell.countCells(dep.getMinLat(), dep.getMaxLat(), dep.getMinLng(), dep.getMaxLng()) <= maxQueryCells
+                && GeoCell.countCells(dest.getMinLat(), dest.getMaxLat(), dest.getMinLng(), dest.getMaxLng()) <= maxQueryCells) {
+            rows = postRepository.findBoxCandidatesInCells(
+                    GeoCell.cellsIn(dep.getMinLat(), dep.getMaxLat(), dep.getMinLng(), dep.getMaxLng()),
+                    GeoCell.cellsIn(dest.getMinLat(), dest.getMaxLat(), dest.getMinLng(), dest.getMaxLng()),
+                    dep.getMinLat(), dep.getMaxLat(), dep.getMinLng(), dep.getMaxLng(),
+                    dest.getMinLat(), dest.getMaxLat(), dest.getMinLng(), dest.getMaxLng(),
+                    includePast, now, excludeJoinedBy, limit);
+        } else {
+            rows = postRepository.findBoxCandidates(
+                    dep.getMinLat(), dep.getMaxLat(), dep.getMinLng(), dep.getMaxLng(),
+                    dest.getMinLat(), dest.getMaxLat(), dest.getMinLng(), dest.getMaxLng(),
+                    includePast, now, excludeJoinedBy, limit);
         }
+
+        // Post당 그룹이 여러 개면 행이 중복될 수 있으므로 첫 행만 사용
+        Set<Long> seen = new HashSet<>();
+        return rows.stream().filter(r -> seen.add(r.postId())).toList();
+    }
+
+    /**
+     * 📝 후보 행으로 AI 요청 본문 구성 (박스 중심점 기준 거리, 사용자 가중치 null 안전 처리)
+     */
+    private RecommendRequest buildRankRequest(User user, DualBoundingBoxRequestDto boxes, List<BoxCandidateRow> rows,
+                                              Map<Long, Double> trustByPost, int topN) {
+        var dep = boxes.getDepartureBox();
+        var dest = boxes.getDestinationBox();
+
+        // 박스 중심점(대표 좌표) 계산 (cos은 후보마다 다시 계산하지 않도록 한 번만)
+        var userDep = GeoDistance.Origin.of(
+                (dep.getMinLat() + dep.getMaxLat()) / 2.0, (dep.getMinLng() + dep.getMaxLng()) / 2.0);
+        var userDest = GeoDistance.Origin.of(
+                (dest.getMinLat() + dest.getMaxLat()) / 2.0, (dest.getMinLng() + dest.getMaxLng()) / 2.0);
+
+        // Candidate 생성 (출발+도착 거리 평균, 그룹신뢰도 포함)
+        List<Candidate> candidates = new ArrayList<>(rows.size());
+        for (BoxCandidateRow row : rows) {
+            candidates.add(createCandidate(row, userDep, userDest, trustByPost));
+        }
+
+        return new RecommendRequest(
+                user.getUserId(),
+                nullToZero(user.getMoneyWeight()),
+                nullToZero(user.getDistanceWeight()),
+                nullToZero(user.getTrustWeight()),
+                candidates,
+                Math.min(topN, candidates.size())
+        );
     }
 
     /**
@@ -164,7 +313,10 @@ public class RecommendService {
                     .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
 
             // 3) 반경 내 후보 N개 조회 (정원 미달 + 미참여 + 유효시간만)
-            List<NearbyPostRow> rows = postRepository.findNearbyWithHostTrust(lat, lng, radiusMeters, userId, 50);
+            //    반경을 감싸는 박스로 인덱스 범위 검색 후 정확한 거리로 거름
+            double[] box = createBoundingBox(lat, lng, radiusMeters);
+            List<NearbyPostRow> rows = postRepository.findNearbyWithHostTrust(
+                    lat, lng, radiusMeters, box[0], box[1], box[2], box[3], userId, 50);
             
             log.info("Found {} nearby candidates for user {} within {}m radius", rows.size(), userId, radiusMeters);
 
@@ -195,7 +347,7 @@ public class RecommendService {
             );
 
             // 7) FastAPI 호출 → 정렬된 ID 목록 반환
-            List<Long> recommendations = client.rank(req);
+            List<Long> recommendations = rankWithFallback(req);
             
             // 8) 결과 검증 및 로깅
             List<Long> validRecommendations = validateRecommendations(recommendations, candidates);
@@ -231,6 +383,52 @@ public class RecommendService {
         }
     }
 
+    /**
+     * 📝 AI 랭킹 호출 (시간 예산 초과/서킷 open/호출 실패 시 로컬 랭커로 대체)
+     */
+    private List<Long> rankWithFallback(RecommendRequest req) {
+        if (client.isCircuitOpen()) {
+            log.debug("Recommender circuit open, ranking {} candidates locally", req.candidates().size());
+            return localRanker.rank(req);
+        }
+        var future = client.rankAsync(req);
+        try {
+            return future.get(latencyBudgetMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 취소하면 클라이언트가 실패로 집계하고 원격 호출 작업도 정리함
+            future.cancel(true);
+            log.warn("Recommender exceeded {}ms budget, falling back to local ranking", latencyBudgetMillis);
+        } catch (ExecutionException e) {
+            log.warn("Recommender call failed, falling back to local ranking: {}", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        return localRanker.rank(req);
+    }
+
+    /**
+     * 📝 rankWithFallback의 비동기 버전 (대기 중 스레드를 점유하지 않음)
+     */
+    private CompletableFuture<List<Long>> rankWithFallbackAsync(RecommendRequest req) {
+        if (client.isCircuitOpen()) {
+            log.debug("Recommender circuit open, ranking {} candidates locally", req.candidates().size());
+            return CompletableFuture.completedFuture(localRanker.rank(req));
+        }
+        // orTimeout은 클라이언트가 준 future 자체를 예외 완료시키므로 실패 집계/작업 취소는 클라이언트에서 처리
+        return client.rankAsync(req)
+                .orTimeout(latencyBudgetMillis, TimeUnit.MILLISECONDS)
+                .exceptionallyAsync(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof TimeoutException) {
+                        log.warn("Recommender exceeded {}ms budget, falling back to local ranking", latencyBudgetMillis);
+                    } else {
+                        log.warn("Recommender call failed, falling back to local ranking: {}", cause.getMessage());
+                    }
+                    return localRanker.rank(req);
+                }, recommendExecutor);
+    }
+
     /**
      * AI 추천 결과 검증
      */
@@ -239,8 +437,9 @@ public class RecommendService {
             return List.of();
         }
         
-        // 원본 후보에 없는 ID가 추천되지 않도록 검증
-        List<Long> candidateIds = candidates.stream().map(Candidate::postId).toList();
+        // 원본 후보에 없는 ID가 추천되지 않도록 검증 (해시 조회로 후보 수에 선형)
+        Set<Long> candidateIds = new HashSet<>(candidates.size() * 2);
+        for (Candidate c : candidates) candidateIds.add(c.postId());
         
         return recommendations.stream()
                 .filter(id -> id != null && candidateIds.contains(id))
@@ -343,132 +542,57 @@ public class RecommendService {
         };
     }
     
-    /**
-     * 📝 사용자가 특정 Post의 그룹에 이미 참여했는지 확인
-     */
-    private boolean hasUserJoined(Long userId, Post post) {
-        return post.getGroups().stream()
-                .anyMatch(group -> groupMemberRepository.existsByGroupIdAndUserId(group.getGroupId(), userId));
-    }
-    
-    /**
-     * 📝 Post에서 Candidate 객체 생성 (출발지만 고려한 기존 방식)
-     */
-    private Candidate createCandidate(Post post, double userLat, double userLng) {
-        // 사용자 위치에서 Post 시작점까지의 거리 계산 (Haversine)
-        double distance = calculateDistance(
-            userLat, userLng, 
-            post.getStartLocation().getLatitude(), 
-            post.getStartLocation().getLongitude()
-        );
-        
-        // 🆕 그룹 멤버들의 평균 trust 계산
-        double averageTrust = calculateGroupAverageTrust(post);
-        
-        return new Candidate(
-            post.getPostId(),
-            post.getEstimatedPrice().doubleValue(),
-            distance,
-            averageTrust  // 🆕 그룹 멤버 평균 trust
-        );
-    }
-    
     /**
      * 📝 Post에서 Candidate 객체 생성 (출발지 + 도착지 모두 고려)
      */
-    private Candidate createCandidate(Post post, double userDepLat, double userDepLng, 
-                                    double userDestLat, double userDestLng) {
-        // 1) 사용자 출발지 → Post 출발지 거리
-        double departureDistance = calculateDistance(
-            userDepLat, userDepLng, 
-            post.getStartLocation().getLatitude(), 
-            post.getStartLocation().getLongitude()
-        );
-        
-        // 2) 사용자 도착지 → Post 도착지 거리
-        double destinationDistance = calculateDistance(
-            userDestLat, userDestLng,
-            post.getEndLocation().getLatitude(),
-            post.getEndLocation().getLongitude()
-        );
+    private Candidate createCandidate(BoxCandidateRow row, GeoDistance.Origin userDep, GeoDistance.Origin userDest,
+                                      Map<Long, Double> trustByPost) {
+        // 1) 사용자 출발지 → Post 출발지, 사용자 도착지 → Post 도착지 거리
+        double departureDistance = userDep.distanceTo(row.startLat(), row.startLng());
+        double destinationDistance = userDest.distanceTo(row.endLat(), row.endLng());
         
-        // 3) 종합 거리 점수 (출발지 + 도착지 거리의 평균)
+        // 2) 종합 거리 점수 (출발지 + 도착지 거리의 평균)
         double totalDistance = (departureDistance + destinationDistance) / 2.0;
         
-        // 4) 🆕 그룹 멤버들의 평균 trust 계산
-        double averageTrust = calculateGroupAverageTrust(post);
-        
-        log.debug("Post {}: 출발지 거리={}m, 도착지 거리={}m, 종합 거리={}m, 평균 trust={}", 
-                post.getPostId(), departureDistance, destinationDistance, totalDistance, averageTrust);
+        // 3) 🆕 그룹 멤버들의 평균 trust 계산
+        double averageTrust = groupAverageTrust(row, trustByPost);
         
         return new Candidate(
-            post.getPostId(),
-            post.getEstimatePricePerMember().doubleValue(),
+            row.postId(),
+            perMemberPriceIfJoined(row),
             totalDistance,  // 🆕 출발지 + 도착지 종합 거리
             averageTrust    // 🆕 그룹 멤버 평균 trust
         );
     }
     
     /**
-     * 📝 Haversine 공식으로 두 좌표 간 거리 계산 (미터)
+     * 📝 참여 시 1인당 예상 금액 (추천 목록에 표시되는 금액과 같은 규칙)
      */
-    private double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
-        final double R = 6371000; // 지구 반지름 (미터)
-        
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLng = Math.toRadians(lng2 - lng1);
-        
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                Math.sin(dLng / 2) * Math.sin(dLng / 2);
-                
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        
-        return R * c;
+    private double perMemberPriceIfJoined(BoxCandidateRow row) {
+        int current = row.currentMembers() != null ? row.currentMembers() : 0;
+        return nullToZero(PostPricing.perMemberIfJoined(row.estimatedPrice(), current));
     }
-    
+
     /**
-     * 📝 그룹 멤버들의 평균 trust 계산
+     * 📝 후보 Post들의 그룹 멤버 평균 trust 일괄 조회 (postId → 평균 trust)
      */
-    private double calculateGroupAverageTrust(Post post) {
-        try {
-            // Post의 모든 그룹 조회
-            List<Groups> groups = post.getGroups();
-            
-            if (groups.isEmpty()) {
-                log.warn("Post {}에 그룹이 없습니다. 호스트 trust를 사용합니다.", post.getPostId());
-                return nullToZero(post.getHost().getTrustScore());
-            }
-            
-            // 모든 그룹의 멤버들 수집
-            List<GroupMember> allMembers = new ArrayList<>();
-            for (Groups group : groups) {
-                List<GroupMember> groupMembers = groupMemberRepository.findByGroupId(group.getGroupId());
-                allMembers.addAll(groupMembers);
-            }
-            
-            if (allMembers.isEmpty()) {
-                log.warn("Post {}의 그룹에 멤버가 없습니다. 호스트 trust를 사용합니다.", post.getPostId());
-                return nullToZero(post.getHost().getTrustScore());
-            }
-            
-            // 멤버들의 trust 평균 계산
-            double totalTrust = allMembers.stream()
-                    .mapToDouble(member -> nullToZero(member.getUser().getTrustScore()))
-                    .sum();
-            
-            double averageTrust = totalTrust / allMembers.size();
-            
-            log.debug("Post {}: {}명의 멤버 평균 trust = {}", 
-                    post.getPostId(), allMembers.size(), averageTrust);
-            
-            return averageTrust;
-            
-        } catch (Exception e) {
-            log.error("Post {} 그룹 멤버 trust 계산 실패: {}", post.getPostId(), e.getMessage(), e);
-            // 에러 발생 시 호스트 trust로 fallback
-            return nullToZero(post.getHost().getTrustScore());
+    private Map<Long, Double> loadAverageTrust(List<BoxCandidateRow> rows) {
+        List<Long> postIds = rows.stream().map(BoxCandidateRow::postId).toList();
+        return groupMemberRepository.findAverageTrustByPostIds(postIds).stream()
+                .filter(row -> row.getAverageTrust() != null)
+                .collect(Collectors.toMap(PostTrustRow::getPostId, PostTrustRow::getAverageTrust));
+    }
+
+    /**
+     * 📝 그룹 멤버들의 평균 trust (집계 결과가 없으면 호스트 trust로 fallback)
+     */
+    private double groupAverageTrust(BoxCandidateRow row, Map<Long, Double> trustByPost) {
+        Double averageTrust = trustByPost.get(row.postId());
+        if (averageTrust == null) {
+            log.debug("Post {}의 그룹에 멤버가 없습니다. 호스트 trust를 사용합니다.", row.postId());
+            return nullToZero(row.hostTrust());
         }
+        return averageTrust;
     }
     
     /**
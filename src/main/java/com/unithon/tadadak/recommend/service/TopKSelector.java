@@ -0,0 +1,87 @@
+package com.unithon.tadadak.recommend.service;
+
+/**
+ * 📝 점수 상위 K개 후보 선택 (크기 K의 최소 힙)
+ * - 후보를 한 번씩 흘려보내며 힙의 최하위보다 나은 것만 교체: O(n log K), 추가 메모리 O(K)
+ * - 동점이면 먼저 들어온 후보(인덱스가 작은 쪽)가 앞 (안정 정렬과 같은 순서)
+ */
+final class TopKSelector {
+
+    private final int[] indices;
+    private final double[] scores;
+    private int size;
+
+    TopKSelector(int k) {
+        this.indices = new int[Math.max(k, 0)];
+        this.scores = new double[Math.max(k, 0)];
+    }
+
+    void offer(int index, double score) {
+        if (indices.length == 0) return;
+        if (size < indices.length) {
+            indices[size] = index;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (worse(0, index, score)) {
+            indices[0] = index;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * @return 선택된 후보 인덱스 (점수 내림차순)
+     */
+    int[] sortedIndices() {
+        int[] result = new int[size];
+        // 힙에서 최하위를 하나씩 꺼내 뒤에서부터 채움 (선택이 끝난 뒤 한 번만 호출)
+        for (int i = size - 1; i >= 0; i--) {
+            result[i] = indices[0];
+            size--;
+            if (size > 0) {
+                indices[0] = indices[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+        }
+        return result;
+    }
+
+    private void siftUp(int pos) {
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (!worse(pos, indices[parent], scores[parent])) break;
+            swap(pos, parent);
+            pos = parent;
+        }
+    }
+
+    private void siftDown(int pos) {
+        while (true) {
+            int left = 2 * pos + 1;
+            if (left >= size) break;
+            int right = left + 1;
+            int worst = right < size && worse(right, indices[left], scores[left]) ? right : left;
+            if (!worse(worst, indices[pos], scores[pos])) break;
+            swap(pos, worst);
+            pos = worst;
+        }
+    }
+
+    /**
+     * 힙 pos 위치의 후보가 (index, score) 후보보다 순위가 낮은지
+     */
+    private boolean worse(int pos, int index, double score) {
+        int cmp = Double.compare(scores[pos], score);
+        return cmp < 0 || (cmp == 0 && indices[pos] > index);
+    }
+
+    private void swap(int a, int b) {
+        int index = indices[a];
+        indices[a] = indices[b];
+        indices[b] = index;
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
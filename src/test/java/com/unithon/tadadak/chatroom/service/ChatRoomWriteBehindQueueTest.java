@@ -0,0 +1,164 @@
+package com.unithon.tadadak.chatroom.service;
+
+import com.unithon.tadadak.chatroom.store.ChatRoomMutation;
+import com.unithon.tadadak.chatroom.store.ChatRoomStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatRoomWriteBehindQueueTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StubStore store = new StubStore();
+    private ChatRoomWriteBehindQueue queue;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (queue != null) queue.stop();
+    }
+
+    @Test
+    void drainsQueuedMutationsInBatchesOfBatchSize() throws Exception {
+        queue = newQueue(2, 3);
+        List<ChatRoomMutation> mutations = mutations(5);
+        mutations.forEach(queue::submit);
+        store.expectApplied(5);
+
+        queue.start();
+
+        assertThat(store.awaitApplied()).isTrue();
+        queue.stop();
+        assertThat(store.calls).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(store.applied).containsExactlyElementsOf(mutations);
+        assertThat(count("applied")).isEqualTo(5);
+    }
+
+    @Test
+    void retriesOnlyFailedMutations() throws Exception {
+        queue = newQueue(10, 5);
+        List<ChatRoomMutation> mutations = mutations(3);
+        ChatRoomMutation flaky = mutations.get(1);
+        store.failuresLeft.put(flaky, 2);
+        mutations.forEach(queue::submit);
+        store.expectApplied(3);
+
+        queue.start();
+
+        assertThat(store.awaitApplied()).isTrue();
+        queue.stop();
+        assertThat(store.calls).containsExactly(mutations, List.of(flaky), List.of(flaky));
+        assertThat(count("applied")).isEqualTo(3);
+        assertThat(count("failed")).isZero();
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() throws Exception {
+        queue = newQueue(10, 3);
+        ChatRoomMutation broken = ChatRoomMutation.closeRoom("broken");
+        ChatRoomMutation next = ChatRoomMutation.closeRoom("next");
+        store.failuresLeft.put(broken, Integer.MAX_VALUE);
+        queue.submit(broken);
+        queue.submit(next);
+
+        queue.start();
+        // 실패 → 재시도 2회 후 포기하면 큐가 비어 있으므로 종료해도 추가 시도 없음
+        assertThat(store.awaitCalls(3)).isTrue();
+        queue.stop();
+
+        assertThat(store.calls).containsExactly(List.of(broken, next), List.of(broken), List.of(broken));
+        assertThat(store.applied).containsExactly(next);
+        assertThat(count("failed")).isEqualTo(1);
+        assertThat(count("failed")).isEqualTo(1);
+    }
+
+    @Test
+    void stopAppliesInFlightAndQueuedMutations() throws Exception {
+        queue = newQueue(2, 5);
+        List<ChatRoomMutation> mutations = mutations(5);
+        store.blockFirstCall = new CountDownLatch(1);
+        queue.start();
+        mutations.forEach(queue::submit);
+        assertThat(store.blockFirstCall.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 첫 반영 도중 종료 → 진행 중이던 묶음은 다시 시도, 남은 항목도 모두 반영
+        queue.stop();
+
+        assertThat(store.applied).containsExactlyInAnyOrderElementsOf(mutations);
+        assertThat(count("applied")).isEqualTo(5);
+        assertThat(count("failed")).isZero();
+    }
+
+    private ChatRoomWriteBehindQueue newQueue(int batchSize, int maxAttempts) {
+        return new ChatRoomWriteBehindQueue(Optional.of(store), meterRegistry, 100, batchSize, maxAttempts, 1);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("chatroom.mutations").tag("result", result).counter().count();
+    }
+
+    private static List<ChatRoomMutation> mutations(int n) {
+        return IntStream.range(0, n).mapToObj(i -> ChatRoomMutation.createRoom(String.valueOf(i), "host" + i)).toList();
+    }
+
+    /**
+     * 호출 기록 + 변경별 실패 횟수 지정 + 첫 호출을 인터럽트될 때까지 붙잡는 저장소
+     */
+    private static class StubStore implements ChatRoomStore {
+        final List<List<ChatRoomMutation>> calls = new CopyOnWriteArrayList<>();
+        final List<ChatRoomMutation> applied = new CopyOnWriteArrayList<>();
+        final Map<ChatRoomMutation, Integer> failuresLeft = new ConcurrentHashMap<>();
+        volatile CountDownLatch blockFirstCall;
+        private CountDownLatch appliedLatch = new CountDownLatch(0);
+
+        void expectApplied(int n) {
+            appliedLatch = new CountDownLatch(n);
+        }
+
+        boolean awaitApplied() throws InterruptedException {
+            return appliedLatch.await(5, TimeUnit.SECONDS);
+        }
+
+        boolean awaitCalls(int n) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (calls.size() < n) {
+                if (System.nanoTime() > deadline) return false;
+                Thread.sleep(5);
+            }
+            return true;
+        }
+
+        @Override
+        public List<ChatRoomMutation> apply(List<ChatRoomMutation> mutations) throws InterruptedException {
+            calls.add(List.copyOf(mutations));
+            CountDownLatch block = blockFirstCall;
+            if (block != null) {
+                blockFirstCall = null;
+                block.countDown();
+                new CountDownLatch(1).await();
+            }
+            List<ChatRoomMutation> failed = new ArrayList<>();
+            for (ChatRoomMutation mutation : mutations) {
+                Integer left = failuresLeft.computeIfPresent(mutation, (m, n) -> n - 1);
+                if (left != null && left >= 0) {
+                    failed.add(mutation);
+                } else {
+                    applied.add(mutation);
+                    appliedLatch.countDown();
+                }
+            }
+            return failed;
+        }
+    }
+}
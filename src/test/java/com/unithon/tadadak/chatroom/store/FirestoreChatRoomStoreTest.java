@@ -0,0 +1,222 @@
+package com.unithon.tadadak.chatroom.store;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.rpc.AlreadyExistsException;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.StatusCode;
+import com.google.api.gax.rpc.UnavailableException;
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.SetOptions;
+import com.google.cloud.firestore.Transaction;
+import com.google.cloud.firestore.WriteBatch;
+import com.google.cloud.firestore.WriteResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Firestore 배치 쓰기를 인메모리 문서 저장소로 흉내 내서 검증
+ * - create: 문서가 있으면 ALREADY_EXISTS로 배치 전체 실패 (실제 Firestore와 동일)
+ * - set(merge): 문서가 없으면 만들고, 있으면 필드만 덮어씀
+ */
+class FirestoreChatRoomStoreTest {
+
+    private final Map<String, Map<String, Object>> documents = new HashMap<>();
+    private final Map<DocumentReference, String> paths = new HashMap<>();
+    private final Set<String> unavailableRooms = new HashSet<>();
+    private final List<List<Write>> commits = new ArrayList<>();
+
+    private Firestore firestore;
+    private FirestoreChatRoomStore store;
+
+    @BeforeEach
+    void setUp() {
+        firestore = mock(Firestore.class);
+        CollectionReference rooms = mock(CollectionReference.class);
+        when(firestore.collection("rooms")).thenReturn(rooms);
+        when(rooms.document(anyString())).thenAnswer(inv -> document("rooms/" + inv.getArgument(0)));
+        when(firestore.batch()).thenAnswer(inv -> fakeBatch());
+        store = new FirestoreChatRoomStore(firestore);
+    }
+
+    @Test
+    void consecutiveCreatesAndClosesShareOneBatch() throws Exception {
+        List<ChatRoomMutation> failed = store.apply(List.of(
+                ChatRoomMutation.createRoom("1", "host1"),
+                ChatRoomMutation.createRoom("2", "host2"),
+                ChatRoomMutation.closeRoom("1")));
+
+        assertThat(failed).isEmpty();
+        assertThat(commits).hasSize(1);
+        assertThat(documents.get("rooms/1")).containsEntry("status", "CLOSED").containsEntry("memberCount", 1);
+        assertThat(documents.get("rooms/2")).containsEntry("status", "OPEN");
+        assertThat(documents).containsKeys("rooms/1/members/host1", "rooms/2/members/host2");
+    }
+
+    @Test
+    void closingMissingRoomDoesNotFailCreatesInSameBatch() throws Exception {
+        List<ChatRoomMutation> failed = store.apply(List.of(
+                ChatRoomMutation.createRoom("1", "host1"),
+                ChatRoomMutation.closeRoom("404")));
+
+        assertThat(failed).isEmpty();
+        assertThat(commits).hasSize(1);
+        assertThat(documents.get("rooms/1")).containsEntry("status", "OPEN");
+    }
+
+    @Test
+    void replayedCreateKeepsExistingRoomState() throws Exception {
+        store.apply(List.of(ChatRoomMutation.createRoom("1", "host1")));
+        documents.get("rooms/1").put("memberCount", 3);
+        store.apply(List.of(ChatRoomMutation.closeRoom("1")));
+
+        // 재시도로 같은 생성 요청이 다시 들어와도 인원/상태를 되돌리지 않음
+        List<ChatRoomMutation> failed = store.apply(List.of(
+                ChatRoomMutation.createRoom("1", "host1"),
+                ChatRoomMutation.createRoom("2", "host2")));
+
+        assertThat(failed).isEmpty();
+        assertThat(documents.get("rooms/1"))
+                .containsEntry("memberCount", 3)
+                .containsEntry("status", "CLOSED");
+        assertThat(documents.get("rooms/2")).containsEntry("status", "OPEN");
+    }
+
+    @Test
+    void failureIsIsolatedToItsRoomAndKeepsLaterChangesOfThatRoom() throws Exception {
+        unavailableRooms.add("rooms/3");
+        ChatRoomMutation create3 = ChatRoomMutation.createRoom("3", "host3");
+        ChatRoomMutation close3 = ChatRoomMutation.closeRoom("3");
+
+        List<ChatRoomMutation> failed = store.apply(List.of(
+                create3,
+                ChatRoomMutation.createRoom("2", "host2"),
+                close3));
+
+        assertThat(failed).containsExactly(create3, close3);
+        assertThat(documents).containsKey("rooms/2").doesNotContainKey("rooms/3");
+    }
+
+    @Test
+    void failedTransactionReturnsOnlyThatMutation() throws Exception {
+        doReturn(ApiFutures.immediateFailedFuture(unavailable()))
+                .when(firestore).runTransaction(any(Transaction.Function.class));
+        ChatRoomMutation join = ChatRoomMutation.addMember("1", "user1");
+
+        List<ChatRoomMutation> failed = store.apply(List.of(
+                ChatRoomMutation.createRoom("1", "host1"),
+                join,
+                ChatRoomMutation.closeRoom("1"),
+                ChatRoomMutation.createRoom("2", "host2")));
+
+        assertThat(failed).containsExactly(join, ChatRoomMutation.closeRoom("1"));
+        verify(firestore, times(1)).runTransaction(any(Transaction.Function.class));
+        assertThat(documents.get("rooms/1")).containsEntry("status", "OPEN");
+        assertThat(documents).containsKey("rooms/2");
+    }
+
+    @Test
+    void joinBeforeRoomExistsIsReportedAsFailed() throws Exception {
+        // 트랜잭션이 방 문서를 찾지 못한 경우 (false 반환)
+        doReturn(ApiFutures.immediateFuture(false))
+                .when(firestore).runTransaction(any(Transaction.Function.class));
+        ChatRoomMutation join = ChatRoomMutation.addMember("1", "user1");
+
+        List<ChatRoomMutation> failed = store.apply(List.of(join, ChatRoomMutation.createRoom("2", "host2")));
+
+        assertThat(failed).containsExactly(join);
+        assertThat(documents).containsKey("rooms/2");
+    }
+
+    @Test
+    void emptyInputTouchesNothing() throws Exception {
+        assertThat(store.apply(List.of())).isEmpty();
+        verify(firestore, never()).batch();
+    }
+
+    // ---- 인메모리 Firestore ----
+
+    private record Write(String op, String path, Map<String, Object> data) {
+    }
+
+    private DocumentReference document(String path) {
+        DocumentReference ref = mock(DocumentReference.class);
+        paths.put(ref, path);
+        CollectionReference members = mock(CollectionReference.class);
+        when(ref.collection("members")).thenReturn(members);
+        when(members.document(anyString())).thenAnswer(inv -> document(path + "/members/" + inv.getArgument(0)));
+        return ref;
+    }
+
+    @SuppressWarnings("unchecked")
+    private WriteBatch fakeBatch() {
+        WriteBatch batch = mock(WriteBatch.class);
+        List<Write> writes = new ArrayList<>();
+        when(batch.create(any(DocumentReference.class), anyMap())).thenAnswer(inv -> {
+            writes.add(new Write("create", paths.get(inv.getArgument(0)), inv.getArgument(1)));
+            return batch;
+        });
+        when(batch.set(any(DocumentReference.class), anyMap())).thenAnswer(inv -> {
+            writes.add(new Write("set", paths.get(inv.getArgument(0)), inv.getArgument(1)));
+            return batch;
+        });
+        when(batch.set(any(DocumentReference.class), anyMap(), any(SetOptions.class))).thenAnswer(inv -> {
+            writes.add(new Write("merge", paths.get(inv.getArgument(0)), inv.getArgument(1)));
+            return batch;
+        });
+        when(batch.commit()).thenAnswer(inv -> commit(writes));
+        return batch;
+    }
+
+    private ApiFuture<List<WriteResult>> commit(List<Write> writes) {
+        for (Write write : writes) {
+            if (unavailableRooms.stream().anyMatch(write.path()::startsWith)) {
+                return ApiFutures.immediateFailedFuture(unavailable());
+            }
+            if (write.op().equals("create") && documents.containsKey(write.path())) {
+                return ApiFutures.immediateFailedFuture(
+                        new AlreadyExistsException("exists", null, code(StatusCode.Code.ALREADY_EXISTS), false));
+            }
+        }
+        for (Write write : writes) {
+            switch (write.op()) {
+                case "create", "set" -> documents.put(write.path(), new HashMap<>(write.data()));
+                case "merge" -> documents.computeIfAbsent(write.path(), p -> new HashMap<>()).putAll(write.data());
+                default -> throw new IllegalStateException(write.op());
+            }
+        }
+        commits.add(writes);
+        return ApiFutures.immediateFuture(List.of());
+    }
+
+    private static ApiException unavailable() {
+        return new UnavailableException("unavailable", null, code(StatusCode.Code.UNAVAILABLE), true);
+    }
+
+    private static StatusCode code(StatusCode.Code code) {
+        return new StatusCode() {
+            @Override public Code getCode() { return code; }
+            @Override public Object getTransportCode() { return code; }
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.unithon.tadadak.global.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoDistanceTest {
+
+    @Test
+    void fastPathStaysCloseToHaversineInsideCutoff() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            // 서비스 지역(국내) 위도 범위
+            double lat = 33 + random.nextDouble() * 6;
+            double lng = 124 + random.nextDouble() * 8;
+            double toLat = lat + (random.nextDouble() * 2 - 1) * 0.25;
+            double toLng = lng + (random.nextDouble() * 2 - 1) * 0.25;
+
+            double expected = GeoDistance.haversine(lat, lng, toLat, toLng);
+            double actual = GeoDistance.Origin.of(lat, lng).distanceTo(toLat, toLng);
+
+            assertThat(actual).isCloseTo(expected, within(Math.max(expected * 0.002, 0.01)));
+        }
+    }
+
+    @Test
+    void beyondCutoffUsesHaversine() {
+        double expected = GeoDistance.haversine(37.5, 127.0, 37.9, 127.4);
+
+        assertThat(GeoDistance.Origin.of(37.5, 127.0).distanceTo(37.9, 127.4)).isEqualTo(expected);
+    }
+
+    @Test
+    void samePointIsZero() {
+        assertThat(GeoDistance.Origin.of(37.5, 127.0).distanceTo(37.5, 127.0)).isZero();
+    }
+}
@@ -0,0 +1,132 @@
+package com.unithon.tadadak.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    record Ping(String name) {
+    }
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+    private final OutboxEventMulticaster multicaster = new OutboxEventMulticaster();
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        relay = new OutboxRelay(repository, multicaster, transactionManager, new ObjectMapper(), meterRegistry,
+                3, 2, 1000, 1000, 4000, 24);
+    }
+
+    @Test
+    void failingListenerDoesNotSkipOtherListeners() {
+        multicaster.addApplicationListener(ApplicationListener.<Ping>forPayload(p -> {
+            throw new IllegalStateException("boom");
+        }));
+        multicaster.addApplicationListener(ApplicationListener.<Ping>forPayload(p -> received.add(p.name())));
+        OutboxEvent event = event(1L, "a");
+        when(repository.claimPending(3)).thenReturn(List.of(event));
+
+        relay.relayBatch();
+
+        assertThat(received).containsExactly("a");
+        assertThat(event.getPublishedAt()).isNull();
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getLastError()).contains("boom");
+    }
+
+    @Test
+    void failedEventIsDeferredWithoutBlockingLaterEvents() {
+        multicaster.addApplicationListener(ApplicationListener.<Ping>forPayload(p -> {
+            if (p.name().equals("b")) throw new IllegalStateException("boom");
+            received.add(p.name());
+        }));
+        OutboxEvent a = event(1L, "a");
+        OutboxEvent b = event(2L, "b");
+        OutboxEvent c = event(3L, "c");
+        when(repository.claimPending(3)).thenReturn(List.of(a, b, c));
+
+        relay.relayBatch();
+
+        assertThat(received).containsExactly("a", "c");
+        assertThat(b.getPublishedAt()).isNull();
+        assertThat(b.getNextAttemptAt()).isAfter(a.getPublishedAt());
+        assertThat(c.getPublishedAt()).isNotNull();
+    }
+
+    @Test
+    void backoffDoublesUpToMax() {
+        assertThat(relay.backoffMillis(1)).isEqualTo(1000);
+        assertThat(relay.backoffMillis(2)).isEqualTo(2000);
+        assertThat(relay.backoffMillis(3)).isEqualTo(4000);
+        assertThat(relay.backoffMillis(10)).isEqualTo(4000);
+        assertThat(relay.backoffMillis(100)).isEqualTo(4000);
+    }
+
+    @Test
+    void marksEventDeadAfterMaxAttemptsAndMovesOn() {
+        multicaster.addApplicationListener(ApplicationListener.<Ping>forPayload(p -> {
+            if (p.name().equals("b")) throw new IllegalStateException("boom");
+            received.add(p.name());
+        }));
+        OutboxEvent b = event(2L, "b");
+        b.setAttempts(1);
+        OutboxEvent c = event(3L, "c");
+        when(repository.claimPending(3)).thenReturn(List.of(b, c));
+
+        relay.relayBatch();
+
+        assertThat(b.getFailedAt()).isNotNull();
+        assertThat(b.getAttempts()).isEqualTo(2);
+        assertThat(c.getPublishedAt()).isNotNull();
+        assertThat(received).containsExactly("c");
+        assertThat(meterRegistry.get("outbox.events").tag("result", "dead").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownEventTypeIsDeadImmediately() {
+        OutboxEvent event = OutboxEvent.builder().outboxId(1L).eventType("com.example.Missing").payload("{}").build();
+        when(repository.claimPending(3)).thenReturn(List.of(event));
+
+        relay.relayBatch();
+
+        assertThat(event.getFailedAt()).isNotNull();
+        assertThat(event.getLastError()).contains("ClassNotFoundException");
+    }
+
+    @Test
+    void reportsMoreWorkOnlyForFullBatch() {
+        multicaster.addApplicationListener(ApplicationListener.<Ping>forPayload(p -> received.add(p.name())));
+        when(repository.claimPending(3)).thenReturn(List.of(event(1L, "a"), event(2L, "b"), event(3L, "c")));
+        assertThat(relay.relayBatch()).isTrue();
+
+        when(repository.claimPending(3)).thenReturn(List.of(event(4L, "d")));
+        assertThat(relay.relayBatch()).isFalse();
+        assertThat(received).containsExactly("a", "b", "c", "d");
+    }
+
+    private static OutboxEvent event(Long id, String name) {
+        return OutboxEvent.builder()
+                .outboxId(id)
+                .eventType(Ping.class.getName())
+                .payload("{\"name\":\"" + name + "\"}")
+                .build();
+    }
+}
@@ -0,0 +1,148 @@
+package com.unithon.tadadak.groupmember.service;
+
+import com.unithon.tadadak.global.exception.CustomException;
+import com.unithon.tadadak.global.exception.ErrorCode;
+import com.unithon.tadadak.global.outbox.OutboxAppender;
+import com.unithon.tadadak.groupmember.domain.GroupMember;
+import com.unithon.tadadak.groupmember.dto.GroupChangeResponse;
+import com.unithon.tadadak.groupmember.dto.GroupMemberRequest;
+import com.unithon.tadadak.groupmember.event.GroupMemberCountChangedEvent;
+import com.unithon.tadadak.groupmember.repository.GroupMemberRepository;
+import com.unithon.tadadak.groups.repository.GroupSeatRow;
+import com.unithon.tadadak.groups.repository.GroupsRepository;
+import com.unithon.tadadak.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 참여/나가기가 발행하는 쿼리 수 검증 (저장소 호출 = SQL 문 1개)
+ */
+class GroupMemberServiceTest {
+
+    private static final long GROUP_ID = 10L;
+    private static final long USER_ID = 20L;
+
+    private GroupMemberRepository repository;
+    private GroupsRepository groupsRepository;
+    private UserRepository userRepository;
+    private OutboxAppender outboxAppender;
+    private GroupMemberService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(GroupMemberRepository.class);
+        groupsRepository = mock(GroupsRepository.class);
+        userRepository = mock(UserRepository.class);
+        outboxAppender = mock(OutboxAppender.class);
+        service = new GroupMemberService(repository, groupsRepository, userRepository, outboxAppender);
+        when(groupsRepository.findSeatSummary(GROUP_ID)).thenReturn(Optional.of(seats(3, 4, 12000)));
+    }
+
+    @Test
+    void joinIssuesReserveInsertAndSummaryOnly() {
+        when(groupsRepository.tryReserveSeat(GROUP_ID, USER_ID)).thenReturn(1);
+
+        GroupChangeResponse response = service.joinGroup(GroupMemberRequest.builder()
+                .groupId(GROUP_ID).userId(USER_ID).build());
+
+        InOrder order = inOrder(groupsRepository, repository);
+        order.verify(groupsRepository).tryReserveSeat(GROUP_ID, USER_ID);
+        order.verify(repository).saveAndFlush(any(GroupMember.class));
+        order.verify(groupsRepository).findSeatSummary(GROUP_ID);
+        // 참조 프록시는 SELECT를 발행하지 않음
+        verify(groupsRepository).getReferenceById(GROUP_ID);
+        verify(userRepository).getReferenceById(USER_ID);
+        verifyNoMoreInteractions(repository, groupsRepository, userRepository);
+        verify(outboxAppender).append(any(GroupMemberCountChangedEvent.class));
+
+        assertThat(response.getCurrentMembers()).isEqualTo(3);
+        assertThat(response.getEstimatePricePerMember()).isEqualTo(4000);
+    }
+
+    @Test
+    void rejectedJoinDoesNotInsert() {
+        when(groupsRepository.tryReserveSeat(GROUP_ID, USER_ID)).thenReturn(0);
+        when(repository.existsByGroupIdAndUserId(GROUP_ID, USER_ID)).thenReturn(true);
+
+        assertThatThrownBy(() -> service.joinGroup(GroupMemberRequest.builder()
+                .groupId(GROUP_ID).userId(USER_ID).build()))
+                .isInstanceOf(CustomException.class);
+
+        verify(repository).existsByGroupIdAndUserId(GROUP_ID, USER_ID);
+        verify(groupsRepository).tryReserveSeat(GROUP_ID, USER_ID);
+        verifyNoMoreInteractions(repository, groupsRepository);
+        verifyNoInteractions(outboxAppender);
+    }
+
+    @Test
+    void concurrentDuplicateJoinIsReportedAsDuplicate() {
+        when(groupsRepository.tryReserveSeat(GROUP_ID, USER_ID)).thenReturn(1);
+        when(repository.saveAndFlush(any(GroupMember.class))).thenThrow(constraintViolation(1062));
+
+        assertThatThrownBy(() -> service.joinGroup(GroupMemberRequest.builder()
+                .groupId(GROUP_ID).userId(USER_ID).build()))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.DUPLICATE_JOIN));
+        verifyNoInteractions(outboxAppender);
+    }
+
+    @Test
+    void unknownUserIsReportedAsUserNotFound() {
+        when(groupsRepository.tryReserveSeat(GROUP_ID, USER_ID)).thenReturn(1);
+        when(repository.saveAndFlush(any(GroupMember.class))).thenThrow(constraintViolation(1452));
+
+        assertThatThrownBy(() -> service.joinGroup(GroupMemberRequest.builder()
+                .groupId(GROUP_ID).userId(USER_ID).build()))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.USER_NOT_FOUND));
+        verifyNoInteractions(outboxAppender);
+    }
+
+    @Test
+    void leaveIssuesDeleteReleaseAndSummaryOnly() {
+        when(repository.deleteNonHostMember(GROUP_ID, USER_ID)).thenReturn(1);
+        when(groupsRepository.releaseSeat(GROUP_ID)).thenReturn(1);
+
+        GroupChangeResponse response = service.leaveGroup(GROUP_ID, USER_ID);
+
+        InOrder order = inOrder(repository, groupsRepository);
+        order.verify(repository).deleteNonHostMember(GROUP_ID, USER_ID);
+        order.verify(groupsRepository).releaseSeat(GROUP_ID);
+        order.verify(groupsRepository).findSeatSummary(GROUP_ID);
+        verifyNoMoreInteractions(repository, groupsRepository);
+        verifyNoInteractions(userRepository);
+        verify(outboxAppender).append(any(GroupMemberCountChangedEvent.class));
+
+        assertThat(response.getCurrentMembers()).isEqualTo(3);
+    }
+
+    private static DataIntegrityViolationException constraintViolation(int mysqlErrorCode) {
+        return new DataIntegrityViolationException("constraint violation",
+                new SQLIntegrityConstraintViolationException("violation", "23000", mysqlErrorCode));
+    }
+
+    private static GroupSeatRow seats(int current, int max, Integer price) {
+        return new GroupSeatRow() {
+            @Override public Long getGroupId() { return GROUP_ID; }
+            @Override public Long getPostId() { return 1L; }
+            @Override public Integer getCurrentMemberCount() { return current; }
+            @Override public Integer getMaxMemberCount() { return max; }
+            @Override public Integer getEstimatedPrice() { return price; }
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.unithon.tadadak.post.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unithon.tadadak.groups.domain.Groups;
+import com.unithon.tadadak.post.domain.Post;
+import com.unithon.tadadak.post.dto.BulkPostRequestItem;
+import com.unithon.tadadak.post.dto.BulkPostResponse;
+import com.unithon.tadadak.post.dto.BulkPostResult;
+import com.unithon.tadadak.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostBulkImporterTest {
+
+    private static final long HOST_ID = 7L;
+
+    private final PostService postService = mock(PostService.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final AtomicLong ids = new AtomicLong();
+    private PostBulkImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.existsById(HOST_ID)).thenReturn(true);
+        when(postService.createPostsChunk(eq(HOST_ID), anyList())).thenAnswer(inv -> {
+            List<BulkPostRequestItem> items = inv.getArgument(1);
+            List<Post> posts = new ArrayList<>();
+            for (int i = 0; i < items.size(); i++) {
+                Post post = Post.builder().postId(ids.incrementAndGet()).build();
+                post.getGroups().add(Groups.builder().groupId(post.getPostId()).build());
+                posts.add(post);
+            }
+            return posts;
+        });
+        importer = new PostBulkImporter(postService, userRepository, objectMapper, 2, 100);
+    }
+
+    @Test
+    void reportsNonObjectAndMistypedElementsAndKeepsGoing() throws Exception {
+        BulkPostResponse response = importPosts("""
+                [%s, 42, "text", [1, 2], {"desiredMembers": "many"}, null, %s]
+                """.formatted(item(future()), item(future())));
+
+        assertThat(response.getError()).isNull();
+        assertThat(response.getCreatedCount()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(BulkPostResult::getIndex).containsExactly(0, 1, 2, 3, 4, 5, 6);
+        assertThat(response.getResults()).extracting(BulkPostResult::isCreated)
+                .containsExactly(true, false, false, false, false, false, true);
+    }
+
+    @Test
+    void rejectsDepartureInThePast() throws Exception {
+        BulkPostResponse response = importPosts("[%s, %s]".formatted(
+                item(LocalDateTime.now().minusMinutes(1)), item(future())));
+
+        assertThat(response.getResults()).extracting(BulkPostResult::isCreated).containsExactly(false, true);
+        assertThat(response.getResults().get(0).getError()).contains("출발 시간");
+    }
+
+    @Test
+    void syntaxErrorKeepsItemsReadSoFar() throws Exception {
+        BulkPostResponse response = importPosts("[%s, {\"startLatitude\": ".formatted(item(future())));
+
+        assertThat(response.getCreatedCount()).isEqualTo(1);
+        assertThat(response.getError()).startsWith("요청 본문 파싱 실패");
+    }
+
+    private BulkPostResponse importPosts(String json) throws Exception {
+        return importer.importPosts(HOST_ID, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static LocalDateTime future() {
+        return LocalDateTime.now().plusHours(1).withNano(0);
+    }
+
+    private static String item(LocalDateTime departure) {
+        return """
+                {"startLatitude": 37.5, "startLongitude": 127.0, "endLatitude": 37.6, "endLongitude": 127.1,
+                 "desiredMembers": 3, "estimatedPrice": 12000, "departureTime": "%s"}
+                """.formatted(departure);
+    }
+}
@@ -0,0 +1,66 @@
+package com.unithon.tadadak.recommend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopKSelectorTest {
+
+    @Test
+    void matchesStableSortThenLimit() {
+        Random random = new Random(7);
+        for (int round = 0; round < 2_000; round++) {
+            int n = random.nextInt(40);
+            int k = random.nextInt(45);
+            // 좁은 범위의 정수 점수 → 동점이 자주 생김
+            double[] scores = IntStream.range(0, n).mapToDouble(i -> random.nextInt(6)).toArray();
+
+            assertThat(select(scores, k)).as("n=%d, k=%d", n, k).containsExactly(expected(scores, k));
+        }
+    }
+
+    @Test
+    void tiesKeepInsertionOrder() {
+        assertThat(select(new double[]{1, 3, 3, 2, 3}, 3)).containsExactly(1, 2, 4);
+    }
+
+    @Test
+    void duplicateScoresBeyondKAreDropped() {
+        assertThat(select(new double[]{5, 5, 5, 5}, 2)).containsExactly(0, 1);
+    }
+
+    @Test
+    void zeroKSelectsNothing() {
+        assertThat(select(new double[]{1, 2, 3}, 0)).isEmpty();
+    }
+
+    @Test
+    void kLargerThanInputReturnsAllSorted() {
+        assertThat(select(new double[]{0.2, 0.9, 0.5}, 10)).containsExactly(1, 2, 0);
+    }
+
+    @Test
+    void emptyInput() {
+        assertThat(select(new double[0], 3)).isEmpty();
+    }
+
+    private static int[] select(double[] scores, int k) {
+        TopKSelector selector = new TopKSelector(k);
+        for (int i = 0; i < scores.length; i++) {
+            selector.offer(i, scores[i]);
+        }
+        return selector.sortedIndices();
+    }
+
+    private static int[] expected(double[] scores, int k) {
+        return IntStream.range(0, scores.length).boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> scores[i]).reversed())
+                .limit(k)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+}